@@ -22,7 +22,10 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeSieve;
 import uk.ac.leeds.ccg.math.util.Math_Collections;
 
 /**
@@ -59,9 +62,34 @@ public class Math_BigInteger {
     public static final BigInteger LONG_MAX_VALUE = BigInteger.valueOf(Long.MAX_VALUE);
 
     /**
-     * For storing factorials for convenience.
+     * The interval between the factorials stored in {@link #factorials}.
      */
-    protected transient List<BigInteger> factorials;
+    public static final int FACTORIAL_STEP = 256;
+
+    /**
+     * The largest factorial stored in {@link #factorials}. Larger factorials
+     * are calculated by {@link #factorialPrimeSwing(int)}.
+     */
+    public static final int FACTORIAL_MEMO_LIMIT = 16384;
+
+    /**
+     * For storing every {@link #FACTORIAL_STEP}th factorial up to
+     * {@link #FACTORIAL_MEMO_LIMIT} for convenience. This is thread safe so
+     * instances can share it.
+     */
+    protected transient volatile ConcurrentSkipListMap<Integer, BigInteger> factorials;
+
+    /**
+     * The factorials that fit in a {@code long}.
+     */
+    private static final long[] LONG_FACTORIALS = new long[21];
+
+    static {
+        LONG_FACTORIALS[0] = 1L;
+        for (int i = 1; i < LONG_FACTORIALS.length; i++) {
+            LONG_FACTORIALS[i] = LONG_FACTORIALS[i - 1] * i;
+        }
+    }
 
     /**
      * For storing powersOfTwo for convenience.
@@ -71,8 +99,6 @@ public class Math_BigInteger {
     private static final BigInteger ZERO = BigInteger.ZERO;
     private static final BigInteger ONE = BigInteger.ONE;
     private static final BigInteger TWO = BigInteger.TWO;
-    private static final BigInteger THREE = BigInteger.valueOf(3);
-    private static final BigInteger FIVE = BigInteger.valueOf(5);
 
     /**
      * Creates a new instance.
@@ -92,13 +118,15 @@ public class Math_BigInteger {
     }
 
     /**
-     * Initialises {@link factorials}.
+     * Initialises {@link #factorials} if it is {@code null}.
      */
-    protected void initFactorials() {
-        factorials = new ArrayList<>();
-        factorials.add(ONE); // 0! = 1
-        factorials.add(ONE); // 1! = 1
-        factorials.add(TWO); // 2! = 2
+    protected synchronized void initFactorials() {
+        if (factorials == null) {
+            ConcurrentSkipListMap<Integer, BigInteger> f
+                    = new ConcurrentSkipListMap<>();
+            f.put(0, ONE); // 0! = 1
+            factorials = f;
+        }
     }
 
     /**
@@ -163,10 +191,8 @@ public class Math_BigInteger {
     /**
      * Returns the
      * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude">Order of
-     * Magnitude</a> (OOM) of the smallest non-zero digit of {@code x}. If the
-     * OOM of the most significant digit of {@code x} is already known then use
-     * {@link #getOrderOfMagnitudeOfSmallestNonZeroDigit(java.math.BigInteger, int)}
-     * for computational efficiency. Examples:
+     * Magnitude</a> (OOM) of the smallest non-zero digit of {@code x}. This is
+     * the number of trailing zeros of {@code x}. Examples:
      * <ul>
      * <li>x=0, result=0</li>
      * <li>x=1, result=0</li>
@@ -180,24 +206,25 @@ public class Math_BigInteger {
      *
      * @param x The number for which the smallest non-zero OOM digit is
      * returned.
-     * @return The smallest non-zero OOM digit of {@code x}.
-     * @throws ArithmeticException if {@code x=0}.
+     * @return The smallest non-zero OOM digit of {@code x}. If {@code x=0}
+     * this returns {@code 0}.
      */
-    public static int getOrderOfMagnitudeOfSmallestNonZeroDigit(BigInteger x)
-            throws ArithmeticException {
-        return getOrderOfMagnitudeOfSmallestNonZeroDigit(x,
-                getOrderOfMagnitudeOfMostSignificantDigit(x));
+    public static int getOrderOfMagnitudeOfSmallestNonZeroDigit(BigInteger x) {
+        if (x.signum() == 0) {
+            return 0;
+        }
+        return -new BigDecimal(x).stripTrailingZeros().scale();
     }
 
     /**
      * Returns the
      * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude">Order of
-     * Magnitude</a> (OOM) of the smallest non-zero digit of {@code x}. This is
-     * computationally more efficient than
-     * {@link #getOrderOfMagnitudeOfSmallestNonZeroDigit(java.math.BigInteger)}.
-     * No checking is done to ensure that {@code m} is correct. Examples:
+     * Magnitude</a> (OOM) of the smallest non-zero digit of {@code x}. For
+     * {@code x != 0} this is the same as
+     * {@link #getOrderOfMagnitudeOfSmallestNonZeroDigit(java.math.BigInteger)}
+     * and {@code m} is not used. Examples:
      * <ul>
-     * <li>x=0, result=0</li>
+     * <li>x=0, m=3, result=3</li>
      * <li>x=1, result=0</li>
      * <li>x=11, result=0</li>
      * <li>x=110, result=1</li>
@@ -207,15 +234,18 @@ public class Math_BigInteger {
      * <li>x=1001000, result=3</li>
      * </ul>
      *
-     * @param x The value for which the order of magnitude of the most
-     * significant digit is returned.
-     * @param m The OOM of the most significant digit of {@code x}. value for
-     * which the order of magnitude of the most
+     * @param x The number for which the smallest non-zero OOM digit is
+     * returned.
+     * @param m The value to return if {@code x=0}.
      * @return The order of magnitude of the smallest non zero digit of
-     * {@code x}. If {@code x=0} this returns {@code 0}.
+     * {@code x}. If {@code x=0} this returns {@code m}.
      */
-    public static int getOrderOfMagnitudeOfSmallestNonZeroDigit(BigInteger x, int m) {
-        return m - new BigDecimal(x).divide(BigDecimal.TEN.pow(m)).scale();
+    public static int getOrderOfMagnitudeOfSmallestNonZeroDigit(BigInteger x,
+            int m) {
+        if (x.signum() == 0) {
+            return m;
+        }
+        return getOrderOfMagnitudeOfSmallestNonZeroDigit(x);
     }
 
     /**
@@ -436,7 +466,7 @@ public class Math_BigInteger {
             //if (xm > m) {
             if (ym < oom) {
                 int m = (int) Math.sqrt(oom);
-                BigInteger d = BigInteger.TEN.pow(m);
+                BigInteger d = Math_PowersOfTen.bigInteger(m);
                 BigInteger xr = x.divide(d);
                 rp = y.multiply(xr).multiply(d);
             } else {
@@ -446,7 +476,7 @@ public class Math_BigInteger {
             //if (ym > m) {
             if (xm < oom) {
                 int m = (int) Math.sqrt(oom);
-                BigInteger d = BigInteger.TEN.pow(m);
+                BigInteger d = Math_PowersOfTen.bigInteger(m);
                 BigInteger yr = y.divide(d);
                 rp = x.multiply(yr).multiply(d);
             } else {
@@ -510,10 +540,63 @@ public class Math_BigInteger {
      * called.
      * @param rm The {@link RoundingMode} used for any rounding.
      * @return {@code x} rounded given {@code s} and {@code rm}
+     * @throws ArithmeticException If {@code rm} is
+     * {@link RoundingMode#UNNECESSARY} and rounding is necessary.
      */
     public static BigInteger round(BigInteger x, int oom, RoundingMode rm) {
-        return new BigDecimal(x).movePointLeft(oom).setScale(0, rm)
-                .movePointRight(oom).toBigInteger();
+        if (oom <= 0 || x.signum() == 0) {
+            return x;
+        }
+        if (oom <= Math_PowersOfTen.MAX_LONG_EXPONENT && x.bitLength() < 63) {
+            long v = x.longValue();
+            long p = Math_PowersOfTen.longValue(oom);
+            long r = v % p;
+            if (r == 0L) {
+                return x;
+            }
+            long q = v / p;
+            int c = Long.compare(Math.abs(r), p - Math.abs(r));
+            if (roundAway(rm, Long.signum(v), c, (q & 1L) == 1L)) {
+                q += Long.signum(v);
+            }
+            return BigInteger.valueOf(q * p);
+        }
+        BigInteger p = Math_PowersOfTen.bigInteger(oom);
+        BigInteger[] qr = x.divideAndRemainder(p);
+        if (qr[1].signum() == 0) {
+            return x;
+        }
+        BigInteger q = qr[0];
+        int c = qr[1].abs().shiftLeft(1).compareTo(p);
+        if (roundAway(rm, x.signum(), c, q.testBit(0))) {
+            q = x.signum() == 1 ? q.add(ONE) : q.subtract(ONE);
+        }
+        return q.multiply(p);
+    }
+
+    /**
+     * For deciding whether to round a truncated quotient away from zero.
+     *
+     * @param rm The {@link RoundingMode}.
+     * @param sign The sign of the number being rounded.
+     * @param c The comparison of the discarded fraction with a half.
+     * @param odd Whether the truncated quotient is odd.
+     * @return {@code true} if the quotient is to be rounded away from zero.
+     * @throws ArithmeticException If {@code rm} is
+     * {@link RoundingMode#UNNECESSARY}.
+     */
+    private static boolean roundAway(RoundingMode rm, int sign, int c,
+            boolean odd) {
+        return switch (rm) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sign == 1;
+            case FLOOR -> sign == -1;
+            case HALF_UP -> c >= 0;
+            case HALF_DOWN -> c > 0;
+            case HALF_EVEN -> c > 0 || (c == 0 && odd);
+            default -> throw new ArithmeticException("Rounding necessary");
+        };
     }
 
     /**
@@ -581,8 +664,12 @@ public class Math_BigInteger {
     }
 
     /**
-     * Adds values to {@link #factorials} if they do not already exist and
-     * returns {@code x} factorial ({@code x*(x-1)*(x-2)*(x-3)*...*(x-(x-1))}).
+     * Returns {@code x} factorial ({@code x*(x-1)*(x-2)*(x-3)*...*(x-(x-1))}).
+     * For {@code x} up to {@link #FACTORIAL_MEMO_LIMIT} this multiplies the
+     * nearest smaller factorial in {@link #factorials} by the product of the
+     * remaining numbers and stores any multiples of {@link #FACTORIAL_STEP}
+     * calculated along the way. Larger factorials are calculated by
+     * {@link #factorialPrimeSwing(int)} and are not stored.
      *
      * @param x The number for which the factorial is returned.
      * @return {@code x} factorial as a BigInteger
@@ -591,21 +678,198 @@ public class Math_BigInteger {
         if (x < 0) {
             throw new ArithmeticException("x < 0 in Math_BigInteger.factorial(x)");
         }
+        if (x < LONG_FACTORIALS.length) {
+            return BigInteger.valueOf(LONG_FACTORIALS[x]);
+        }
+        if (x > FACTORIAL_MEMO_LIMIT) {
+            return factorialPrimeSwing(x);
+        }
         if (factorials == null) {
             initFactorials();
         }
-        int size = factorials.size();
-        if (x < size) {
-            return factorials.get(x);
-        }
-        BigInteger r = factorials.get(size - 1);
-        for (int i = size; i <= x; i++) {
-            r = r.multiply(BigInteger.valueOf(i));
-            factorials.add(r);
+        Map.Entry<Integer, BigInteger> e = factorials.floorEntry(x);
+        int m = e.getKey();
+        BigInteger r = e.getValue();
+        while (m < x) {
+            int next = Math.min(x, (m / FACTORIAL_STEP + 1) * FACTORIAL_STEP);
+            r = r.multiply(productRange(m + 1, next));
+            m = next;
+            if (m % FACTORIAL_STEP == 0) {
+                factorials.putIfAbsent(m, r);
+            }
         }
         return r;
     }
 
+    /**
+     * Calculates and returns {@code n} factorial using Luschny's prime swing
+     * algorithm. This uses {@code n! = ((n/2)!)^2 n≀} where the swing
+     * {@code n≀ = n!/((n/2)!)^2} is the product of the prime powers
+     * {@code p^e} with {@code e} the number of odd values of
+     * {@code floor(n/p^i)} for {@code i >= 1}. The prime powers are
+     * multiplied in a balanced tree, so most of the work is in a few
+     * multiplications of large numbers. This is faster than multiplying
+     * {@code 1*2*...*n} for a single large {@code n}.
+     * https://oeis.org/A056040
+     *
+     * @param n The number for which the factorial is returned.
+     * @return {@code n} factorial.
+     * @throws ArithmeticException If {@code n < 0}.
+     */
+    public static BigInteger factorialPrimeSwing(int n) {
+        if (n < 0) {
+            throw new ArithmeticException(
+                    "n < 0 in Math_BigInteger.factorialPrimeSwing(n)");
+        }
+        if (n < LONG_FACTORIALS.length) {
+            return BigInteger.valueOf(LONG_FACTORIALS[n]);
+        }
+        return factorialPrimeSwing(n, new Math_PrimeSieve().primesInRange(2, n));
+    }
+
+    /**
+     * @param n The number for which the factorial is returned.
+     * @param primes The primes up to at least {@code n} in ascending order.
+     * @return {@code n} factorial.
+     */
+    private static BigInteger factorialPrimeSwing(int n, long[] primes) {
+        if (n < LONG_FACTORIALS.length) {
+            return BigInteger.valueOf(LONG_FACTORIALS[n]);
+        }
+        BigInteger f = factorialPrimeSwing(n / 2, primes);
+        return f.multiply(f).multiply(swing(n, primes));
+    }
+
+    /**
+     * @param n The number for which the swing is returned.
+     * @param primes The primes up to at least {@code n} in ascending order.
+     * @return {@code n!/((n/2)!)^2}
+     */
+    private static BigInteger swing(int n, long[] primes) {
+        long[] f = new long[primes.length];
+        int j = 0;
+        long sqrtn = (long) Math.sqrt(n);
+        for (long p : primes) {
+            if (p > n) {
+                break;
+            }
+            if (p > n / 2) {
+                f[j++] = p;
+            } else if (p > sqrtn) {
+                if (((n / p) & 1L) == 1L) {
+                    f[j++] = p;
+                }
+            } else {
+                long q = n;
+                long pe = 1L;
+                while ((q /= p) > 0) {
+                    if ((q & 1L) == 1L) {
+                        pe *= p;
+                    }
+                }
+                if (pe > 1L) {
+                    f[j++] = pe;
+                }
+            }
+        }
+        return product(f, 0, j);
+    }
+
+    /**
+     * Calculates and returns the
+     * <a href="https://en.wikipedia.org/wiki/Binomial_coefficient">binomial
+     * coefficient</a> {@code n!/(k!(n-k)!)}. By Kummer's theorem the exponent
+     * of a prime {@code p} in this is the number of carries when adding
+     * {@code k} and {@code n-k} in base {@code p}. So it is calculated as a
+     * product of prime powers each no greater than {@code n} without any
+     * division.
+     *
+     * @param n The number of things to choose from.
+     * @param k The number of things chosen.
+     * @return The number of ways of choosing {@code k} things from {@code n}
+     * things. This is {@code 0} if {@code k < 0} or {@code k > n}.
+     * @throws ArithmeticException If {@code n < 0}.
+     */
+    public static BigInteger binomial(int n, int k) {
+        if (n < 0) {
+            throw new ArithmeticException("n < 0 in Math_BigInteger.binomial(n, k)");
+        }
+        if (k < 0 || k > n) {
+            return ZERO;
+        }
+        k = Math.min(k, n - k);
+        if (k < 16) {
+            BigInteger r = ONE;
+            for (int i = 1; i <= k; i++) {
+                r = r.multiply(BigInteger.valueOf(n - k + i)).divide(
+                        BigInteger.valueOf(i));
+            }
+            return r;
+        }
+        long[] primes = new Math_PrimeSieve().primesInRange(2, n);
+        long[] f = new long[primes.length];
+        int j = 0;
+        for (long p : primes) {
+            if (p > n - k) {
+                f[j++] = p;
+            } else if (p <= n / 2) {
+                long nq = n;
+                long kq = k;
+                long rq = n - k;
+                long pe = 1L;
+                while (nq > 0) {
+                    nq /= p;
+                    kq /= p;
+                    rq /= p;
+                    if (nq - kq - rq == 1L) {
+                        pe *= p;
+                    }
+                }
+                if (pe > 1L) {
+                    f[j++] = pe;
+                }
+            }
+        }
+        return product(f, 0, j);
+    }
+
+    /**
+     * @param f The numbers to multiply.
+     * @param lo The index of the first number to multiply.
+     * @param hi One more than the index of the last number to multiply.
+     * @return The product of {@code f[lo]} to {@code f[hi - 1]} calculated in
+     * a balanced tree.
+     */
+    private static BigInteger product(long[] f, int lo, int hi) {
+        if (hi - lo <= 8) {
+            BigInteger r = ONE;
+            for (int i = lo; i < hi; i++) {
+                r = r.multiply(BigInteger.valueOf(f[i]));
+            }
+            return r;
+        }
+        int m = (lo + hi) >>> 1;
+        return product(f, lo, m).multiply(product(f, m, hi));
+    }
+
+    /**
+     * @param a The first number to multiply.
+     * @param b The last number to multiply.
+     * @return The product {@code a*(a+1)*...*b} calculated in a balanced tree.
+     * This is {@code 1} if {@code b < a}.
+     */
+    private static BigInteger productRange(long a, long b) {
+        if (b - a < 8) {
+            BigInteger r = ONE;
+            for (long i = a; i <= b; i++) {
+                r = r.multiply(BigInteger.valueOf(i));
+            }
+            return r;
+        }
+        long m = (a + b) >>> 1;
+        return productRange(a, m).multiply(productRange(m + 1, b));
+    }
+
     /**
      * Adds values to {@link #powersOfTwo} if they do not already exist and
      * returns {@code 2} to the power of {@code x} (2^x).
@@ -750,110 +1014,299 @@ public class Math_BigInteger {
     }
 
     /**
-     * Adapted from https://rosettacode.org/wiki/Prime_decomposition#Java
+     * For factorising numbers in
+     * {@link #getPrimeFactorisation(java.math.BigInteger)}.
+     */
+    private static Math_Factoriser factoriser;
+
+    /**
+     * Get the prime factorisation of {@code x} using a
+     * {@link Math_Factoriser}: trial division by a cached table of small
+     * primes, then Pollard's rho with Brent's cycle detection, then elliptic
+     * curve factorisation for any remaining composite cofactors.
+     *
+     * @param x The number to get the prime factorisation of.
+     * @return A map with keys that are the prime factors of {@code x} in
+     * ascending order and values that are the number of times each factor
+     * divides {@code x}. E.g. 12 = 2 × 2 × 3 has a prime factorisation of
+     * {2=2, 3=1}. If {@code x < 2} the map is empty.
+     */
+    public static TreeMap<BigInteger, Integer> getPrimeFactorisation(
+            BigInteger x) {
+        synchronized (Math_BigInteger.class) {
+            if (factoriser == null) {
+                factoriser = new Math_Factoriser();
+            }
+        }
+        return factoriser.factorise(x);
+    }
+
+    /**
+     * Get the prime decomposition of {@code x}. This expands the result of
+     * {@link #getPrimeFactorisation(java.math.BigInteger)} into a list.
      *
      * @param x The number to get the prime decomposition of.
-     * @return 12 = 2 × 2 × 3 has a prime decomposition of {2, 2, 3}
+     * @return 12 = 2 × 2 × 3 has a prime decomposition of {2, 2, 3}. If
+     * {@code x < 2} then {@code null} is returned.
      */
     public static ArrayList<BigInteger> getPrimeDecomposition(BigInteger x) {
         if (x.compareTo(TWO) < 0) {
             return null;
         }
         ArrayList<BigInteger> factors = new ArrayList<>();
+        getPrimeFactorisation(x).forEach((p, e) -> {
+            for (int i = 0; i < e; i++) {
+                factors.add(p);
+            }
+        });
+        return factors;
+    }
 
-        // Handle even values.
-        while (x.and(ONE).equals(ZERO)) {
-            x = x.shiftRight(1);
-            factors.add(TWO);
-        }
+    /**
+     * Products of consecutive odd primes that each fit in a {@code long}, used
+     * for trial division by all the odd primes less than {@code 150} with a
+     * single {@link BigInteger#mod(java.math.BigInteger)} per product.
+     */
+    private static final long[][] TRIAL_PRIMES = {
+        {3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41, 43, 47},
+        {53, 59, 61, 67, 71, 73, 79, 83, 89, 97},
+        {101, 103, 107, 109, 113, 127, 131, 137, 139}};
 
-        // Handle values divisible by three.
-        while (x.mod(THREE).equals(ZERO)) {
-            factors.add(THREE);
-            x = x.divide(THREE);
-        }
+    /**
+     * The products of {@link #TRIAL_PRIMES}.
+     */
+    private static final BigInteger[] TRIAL_PRODUCTS = new BigInteger[TRIAL_PRIMES.length];
 
-        // Handle values divisible by five.
-        while (x.mod(FIVE).equals(ZERO)) {
-            factors.add(FIVE);
-            x = x.divide(FIVE);
+    static {
+        for (int i = 0; i < TRIAL_PRIMES.length; i++) {
+            long p = 1;
+            for (long q : TRIAL_PRIMES[i]) {
+                p = Math.multiplyExact(p, q);
+            }
+            TRIAL_PRODUCTS[i] = BigInteger.valueOf(p);
         }
+    }
 
-        // Skip multiples of two, three and five.
-        int[] pattern = {4, 2, 4, 2, 4, 6, 2, 6};
-        int pi = 0;
-        BigInteger t = BigInteger.valueOf(7);
-        while (!x.equals(ONE)) {
-            while (x.mod(t).equals(ZERO)) {
-                factors.add(t);
-                x = x.divide(t);
+    /**
+     * Tests if {@code x} is prime using the
+     * <a href="https://en.wikipedia.org/wiki/Baillie%E2%80%93PSW_primality_test">Baillie-PSW
+     * test</a>. For {@code x < 2^63} this delegates to
+     * {@link Math_Long#isPrime(long)} and is deterministic. For larger values
+     * trial division by small primes is followed by a strong probable prime
+     * test to base {@code 2} and a strong Lucas probable prime test with
+     * parameters chosen using Selfridge's method. No composite number is known
+     * to pass the test. This is usually faster than
+     * {@link BigInteger#isProbablePrime(int)} which does many Miller-Rabin
+     * rounds with random bases in addition to a Lucas test.
+     *
+     * @param x The number to test.
+     * @return {@code true} iff {@code x} is a probable prime.
+     */
+    public static boolean isProbablePrime(BigInteger x) {
+        if (x.bitLength() < 63) {
+            return Math_Long.isPrime(x.longValue());
+        }
+        if (x.signum() < 0 || !x.testBit(0)) {
+            return false;
+        }
+        for (int i = 0; i < TRIAL_PRODUCTS.length; i++) {
+            long r = x.mod(TRIAL_PRODUCTS[i]).longValue();
+            for (long q : TRIAL_PRIMES[i]) {
+                if (r % q == 0) {
+                    return false;
+                }
             }
-            t = t.add(BigInteger.valueOf(pattern[pi]));
-            pi = (pi + 1) & 7;
         }
-        return factors;
+        return isStrongProbablePrime(x, TWO) && isStrongLucasProbablePrime(x);
     }
 
     /**
-     * Optimised for huge numbers. See:
-     * <a href="https://stackoverflow.com/a/18860385/1998054">https://stackoverflow.com/a/18860385/1998054</a>
-     * <a href="http://en.wikipedia.org/wiki/Logarithm#Change_of_base">http://en.wikipedia.org/wiki/Logarithm#Change_of_base</a>
-     *
-     * States that log[b](x) = log[k](x)/log[k](b)
+     * A strong probable prime (single Miller-Rabin) test.
      *
-     * We can get log[2](x) as the bitCount of the number so what we need is
-     * essentially bitCount/log[2](10).Sadly that will lead to inaccuracies so
-     * here I will attempt an iterative process that should achieve accuracy.
-     *
-     * log[2](10) = 3.32192809488736234787 so if I divide by 10^(bitCount/4) we
-     * should not go too far. In fact repeating that process while adding
-     * (bitCount/4) to the running count of the digits will end up with an
-     * accurate figure given some twiddling at the end.
-     *
-     * So here's the scheme:
-     *
-     * While there are more than 4 bits in the number Divide by 10^(bits/4)
-     * Increase digit count by (bits/4)
-     *
-     * Fiddle around to accommodate the remaining digit - if there is one.
-     *
-     * Essentially - each time around the loop we remove a number of decimal
-     * digits (by dividing by 10^n) keeping a count of how many we've removed.
+     * @param n An odd number greater than {@code 2}.
+     * @param a The base.
+     * @return {@code true} iff {@code n} is a strong probable prime to base
+     * {@code a}.
+     */
+    static boolean isStrongProbablePrime(BigInteger n, BigInteger a) {
+        BigInteger nm1 = n.subtract(ONE);
+        int s = nm1.getLowestSetBit();
+        BigInteger x = a.modPow(nm1.shiftRight(s), n);
+        if (x.equals(ONE) || x.equals(nm1)) {
+            return true;
+        }
+        for (int i = 1; i < s; i++) {
+            x = x.multiply(x).mod(n);
+            if (x.equals(nm1)) {
+                return true;
+            }
+            if (x.equals(ONE)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A strong Lucas probable prime test with parameters {@code P = 1} and
+     * {@code Q = (1 - D) / 4} where {@code D} is the first of
+     * {@code 5, -7, 9, -11, ...} for which the Jacobi symbol {@code (D/n)} is
+     * {@code -1} (Selfridge's method A).
      *
-     * The number of digits we remove is estimated from the number of bits in
-     * the number (i.e. log[2](x) / 4). The perfect figure for the reduction
-     * would be log[2](x) / 3.3219... so dividing by 4 is a good under-estimate.
-     * We don't go too far but it does mean we have to repeat it just a few
-     * times.
+     * @param n An odd number greater than {@code 2} with no small prime
+     * factors.
+     * @return {@code true} iff {@code n} is a strong Lucas probable prime.
+     */
+    static boolean isStrongLucasProbablePrime(BigInteger n) {
+        if (isSquare(n)) {
+            return false;
+        }
+        long d = 5;
+        while (true) {
+            int j = jacobi(d, n);
+            if (j == -1) {
+                break;
+            }
+            if (j == 0 && n.compareTo(BigInteger.valueOf(Math.abs(d))) > 0) {
+                return false;
+            }
+            d = d > 0 ? -(d + 2) : -(d - 2);
+        }
+        BigInteger bd = BigInteger.valueOf(d);
+        BigInteger q = BigInteger.valueOf((1 - d) / 4);
+        BigInteger np1 = n.add(ONE);
+        int s = np1.getLowestSetBit();
+        BigInteger k = np1.shiftRight(s);
+        // U_1 = 1, V_1 = P = 1, Q^1 = Q
+        BigInteger u = ONE;
+        BigInteger v = ONE;
+        BigInteger qk = q.mod(n);
+        for (int i = k.bitLength() - 2; i >= 0; i--) {
+            // Double: U_2k = U_k*V_k, V_2k = V_k^2 - 2Q^k
+            u = u.multiply(v).mod(n);
+            v = v.multiply(v).subtract(qk.shiftLeft(1)).mod(n);
+            qk = qk.multiply(qk).mod(n);
+            if (k.testBit(i)) {
+                // Increment: U_k+1 = (P*U_k + V_k)/2, V_k+1 = (D*U_k + P*V_k)/2
+                BigInteger u2 = halve(u.add(v), n);
+                v = halve(bd.multiply(u).add(v).mod(n), n);
+                u = u2;
+                qk = qk.multiply(q).mod(n);
+            }
+        }
+        if (u.signum() == 0 || v.signum() == 0) {
+            return true;
+        }
+        for (int r = 1; r < s; r++) {
+            v = v.multiply(v).subtract(qk.shiftLeft(1)).mod(n);
+            if (v.signum() == 0) {
+                return true;
+            }
+            qk = qk.multiply(qk).mod(n);
+        }
+        return false;
+    }
+
+    /**
+     * @param x A number in the range {@code [0, 2n)}.
+     * @param n An odd modulus.
+     * @return {@code x/2 mod n}.
+     */
+    private static BigInteger halve(BigInteger x, BigInteger n) {
+        if (x.testBit(0)) {
+            x = x.add(n);
+        }
+        return x.shiftRight(1).mod(n);
+    }
+
+    /**
+     * @param a A small number.
+     * @param n An odd positive number.
+     * @return The <a href="https://en.wikipedia.org/wiki/Jacobi_symbol">Jacobi
+     * symbol</a> {@code (a/n)}.
+     */
+    static int jacobi(long a, BigInteger n) {
+        int t = 1;
+        int n8 = n.intValue() & 7;
+        if (a < 0) {
+            a = -a;
+            if ((n8 & 3) == 3) {
+                t = -t;
+            }
+        }
+        while (a != 0 && (a & 1L) == 0) {
+            a >>= 1;
+            if (n8 == 3 || n8 == 5) {
+                t = -t;
+            }
+        }
+        if (a == 0) {
+            return n.equals(ONE) ? 1 : 0;
+        }
+        if ((a & 3L) == 3 && (n8 & 3) == 3) {
+            t = -t;
+        }
+        return t * jacobi(n.mod(BigInteger.valueOf(a)).longValue(), a);
+    }
+
+    /**
+     * @param a A non-negative number.
+     * @param n An odd positive number.
+     * @return The <a href="https://en.wikipedia.org/wiki/Jacobi_symbol">Jacobi
+     * symbol</a> {@code (a/n)}.
+     */
+    private static int jacobi(long a, long n) {
+        int t = 1;
+        a %= n;
+        while (a != 0) {
+            while ((a & 1L) == 0) {
+                a >>= 1;
+                long r = n & 7;
+                if (r == 3 || r == 5) {
+                    t = -t;
+                }
+            }
+            long tmp = a;
+            a = n;
+            n = tmp;
+            if ((a & 3L) == 3 && (n & 3L) == 3) {
+                t = -t;
+            }
+            a %= n;
+        }
+        return n == 1 ? t : 0;
+    }
+
+    /**
+     * {@code log10(2)} times {@code 2^32} rounded down.
+     */
+    private static final long LOG10_2_FIXED = 1292913986L;
+
+    /**
+     * Calculates {@code floor(log10(x))} using integer arithmetic. Numbers that
+     * fit in a {@code long} use {@link Math_PowersOfTen#log10(long)}. For
+     * larger numbers an estimate {@code floor((x.bitLength() - 1) log10(2))}
+     * is at most {@code 2} too small and is corrected by comparing {@code x}
+     * with powers of ten from {@link Math_PowersOfTen#bigInteger(int)}.
      *
      * @param x The number to log. This should be positive.
-     * @return The number of digits in x.
+     * @return The number of digits in x less one.
      * @throws ArithmeticException if {@code x} is not greater than
      * {@code 0}.
      */
     public static int log10(BigInteger x) throws ArithmeticException {
-        int xs = x.signum();
-        if (xs == 1) {
-            int digits = 0;
-            int bits = x.bitLength();
-            // Serious reductions.
-            while (bits > 4) {
-                // 4 > log[2](10) so we should not reduce it too far.
-                int reduce = bits / 4;
-                // Divide by 10^reduce
-                x = x.divide(BigInteger.TEN.pow(reduce));
-                // Removed that many decimal digits.
-                digits += reduce;
-                // Recalculate bitLength
-                bits = x.bitLength();
-            }
-            // Now 4 bits or less - add 1 if necessary.
-            if (x.intValue() > 9) {
-                digits += 1;
-            }
-            return digits;
+        if (x.signum() != 1) {
+            throw new ArithmeticException("!(x > 0)");
+        }
+        int bits = x.bitLength();
+        if (bits < 64) {
+            return Math_PowersOfTen.log10(x.longValue());
         }
-        throw new ArithmeticException("!(x > 0)");
+        int r = (int) (((bits - 1) * LOG10_2_FIXED) >>> 32);
+        while (x.compareTo(Math_PowersOfTen.bigInteger(r + 1)) >= 0) {
+            r++;
+        }
+        return r;
     }
 
     /**
@@ -19,6 +19,7 @@ import ch.obermuhlner.math.big.BigRational;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.function.IntFunction;
 import uk.ac.leeds.ccg.math.number.Math_BigRationalSqrt;
 
 /**
@@ -199,9 +200,14 @@ public class Math_BigRational {
      * For calculating the cosine of x.
      * http://en.wikipedia.org/wiki/Cosine#Sine.2C_cosine.2C_and_tangent
      *
+     * This is calculated in fixed point by
+     * {@link Math_Trig#sinCos(BigDecimal, int)} which reduces the argument
+     * using Pi from {@link Math_Constants}. Only the result is converted to a
+     * BigRational, so the numerator and denominator do not grow with the
+     * number of terms. The result is correctly rounded.
+     *
      * @param x the number to process.
-     * @param bi Stores Taylor series expansion terms for computational
-     * efficiency.
+     * @param bi Not used.
      * @param oom The
      * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
      * Magnitude</a> for the precision.
@@ -210,65 +216,24 @@ public class Math_BigRational {
      */
     public static BigRational cos(BigRational x, Math_BigInteger bi, int oom,
             RoundingMode rm) {
-        // cosx = 1-(x^2)/(2!)+(x^4)/(4!)-(x^6)/(6!)+...
-        BigRational precision = BigRational.valueOf(BigInteger.ONE, BigInteger.TEN.pow(2 - oom));
-        BigRational rp;
-        BigRational r0;
-        BigRational r = BigRational.ONE;
-        BigRational x2 = x.pow(2);
-        BigRational power = x.pow(2);
-        int factor = 2;
-        BigInteger factorial = BigInteger.valueOf(2);
-        boolean alternator = true;
-        while (true) {
-//            factorial = bi.factorial(factor);
-//            power = x.pow(factor);
-//            BigRational division = power.divide(factorial);
-//            if (division.abs().compareTo(precision) != -1) {
-//                if (alternator) {
-//                    alternator = false;
-//                    r = r.subtract(division);
-//                } else {
-//                    alternator = true;
-//                    r = r.add(division);
-//                }
-//            } else {
-//                break;
-//            }
-//            factor += 2;
-            rp = power.divide(factorial);
-            if (alternator) {
-                alternator = false;
-                r0 = r.subtract(rp);
-            } else {
-                alternator = true;
-                r0 = r.add(rp);
-            }
-            BigRational diff = r.subtract(r0);
-            //if (i % 100000 == 0) {
-            //    System.out.println(r0.toPlainString() + ", diff = " + diff.toPlainString());
-            //}            
-            if (diff.abs().compareTo(precision) == -1) {
-                break;
-            }
-            //r = r0;
-            r = Math_BigRational.round(r0, oom - 2, rm);
-            factor += 2;
-            factorial = factorial.multiply(BigInteger.valueOf(factor * (factor - 1)));
-            //power = power.multiply(x2);
-            power = Math_BigRational.round(power.multiply(x2), oom - 2, rm);
-            
+        if (x.isZero()) {
+            return round(BigRational.ONE, oom, rm);
         }
-        return round(r, oom, rm);
+        BigInteger[] pq = getNumeratorAndDenominator(x);
+        return round(s -> toFixed(Math_Trig.sinCos(toBigDecimal(pq, s + 3),
+                s + 2)[1], s), oom, rm);
     }
 
     /**
      * For calculating the sine of x.
      * http://en.wikipedia.org/wiki/Cosine#Sine.2C_cosine.2C_and_tangent
      *
+     * This is calculated in the same way as
+     * {@link #cos(BigRational, Math_BigInteger, int, RoundingMode)}. The result
+     * is correctly rounded.
+     *
      * @param x the number to process.
-     * @param bi Stores Taylor series expansion terms for computational
-     * efficiency.
+     * @param bi Not used.
      * @param oom The
      * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
      * Magnitude</a> for the precision.
@@ -277,80 +242,85 @@ public class Math_BigRational {
      */
     public static BigRational sin(BigRational x, Math_BigInteger bi, int oom,
             RoundingMode rm) {
-        // sin(x) = x − x^3/3! + x^5/5! − x^7/7! +...
-        BigRational precision = BigRational.valueOf(BigInteger.ONE,
-                BigInteger.TEN.pow(2 - oom));
-        BigRational rp;
-        BigRational r0;
-        BigRational r = x;
-        BigRational x2 = x.pow(2);
-        BigRational power = x.pow(3);
-        int factor = 3;
-        BigInteger factorial = BigInteger.valueOf(6);
-        boolean alternator = true;
-        while (true) {
-//            BigRational division = power.divide(factorial);
-//            if (division.abs().compareTo(precision) != -1) {
-//                if (alternator) {
-//                    alternator = false;
-//                    r = r.subtract(division);
-//                } else {
-//                    alternator = true;
-//                    r = r.add(division);
-//                }
-//            } else {
-//                break;
-//            }
-//            factor += 2;
-            rp = power.divide(factorial);
-            if (alternator) {
-                alternator = false;
-                r0 = r.subtract(rp);
-            } else {
-                alternator = true;
-                r0 = r.add(rp);
-            }
-            BigRational diff = r.subtract(r0);
-            //if (i % 100000 == 0) {
-            //    System.out.println(r0.toPlainString() + ", diff = " + diff.toPlainString());
-            //}            
-            if (diff.abs().compareTo(precision) == -1) {
-                break;
-            }
-            //r = r0;
-            r = Math_BigRational.round(r0, oom - 2, rm);
-            factor += 2;
-            factorial = factorial.multiply(BigInteger.valueOf(factor * (factor - 1)));
-            //power = power.multiply(x2);
-            power = Math_BigRational.round(power.multiply(x2), oom - 2, rm);
+        if (x.isZero()) {
+            return BigRational.ZERO;
         }
-        return round(r, oom, rm);
+        BigInteger[] pq = getNumeratorAndDenominator(x);
+        return round(s -> toFixed(Math_Trig.sinCos(toBigDecimal(pq, s + 3),
+                s + 2)[0], s), oom, rm);
     }
 
     /**
      * For calculating the tangent of x.
      * https://en.wikipedia.org/wiki/Trigonometric_functions#tangent
      *
+     * This is calculated in fixed point by
+     * {@link Math_Trig#tan(BigDecimal, int)}. As the derivative of the tangent
+     * is {@code 1 + tan(x)^2}, x is approximated with more decimal places the
+     * larger the tangent. The result is correctly rounded.
+     *
      * @param x the number to process.
-     * @param bi A Math_BigInteger instance. efficiency.
+     * @param bi Not used.
      * @param oom The
      * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
      * Magnitude</a> for the precision.
      * @param rm The RoundingMode if rounding is necessary.
-     * @return The sine of x.
+     * @return The tangent of x.
      */
     public static BigRational tan(BigRational x, Math_BigInteger bi, int oom,
             RoundingMode rm) {
-        BigRational sin = sin(x, bi, oom - 2, rm);
-        BigRational cos = cos(x, bi, oom - 2, rm);
-        return round(sin.divide(cos), oom, rm);
+        if (x.isZero()) {
+            return BigRational.ZERO;
+        }
+        BigInteger[] pq = getNumeratorAndDenominator(x);
+        return round(s -> {
+            int d = s + 3;
+            while (true) {
+                BigDecimal t = Math_Trig.tan(toBigDecimal(pq, d), s + 2);
+                int oomt = t.signum() == 0 ? 0 : Math_BigDecimal
+                        .getOrderOfMagnitudeOfMostSignificantDigit(t);
+                int d2 = s + 3 + 2 * Math.max(0, oomt + 1);
+                if (d2 <= d) {
+                    return toFixed(t, s);
+                }
+                d = d2;
+            }
+        }, oom, rm);
+    }
+
+    /**
+     * @param pq {@code {p, q}} with {@code q > 0}.
+     * @param dp The number of decimal places.
+     * @return {@code p/q} truncated to {@code dp} decimal places.
+     */
+    private static BigDecimal toBigDecimal(BigInteger[] pq, int dp) {
+        return new BigDecimal(pq[0]).divide(new BigDecimal(pq[1]), dp,
+                RoundingMode.DOWN);
+    }
+
+    /**
+     * @param x The number.
+     * @param s The scale.
+     * @return {@code x} multiplied by {@code 10^s} and truncated.
+     */
+    private static BigInteger toFixed(BigDecimal x, int s) {
+        return x.setScale(s, RoundingMode.DOWN).unscaledValue();
     }
 
     /**
      * For calculating the arctangent of {@code x}.
-     * https://en.wikipedia.org/wiki/Inverse_trigonometric_functions (There is a
-     * faster converging formula discovered by Euler that should be used here
-     * instead of using the Taylor series!)
+     * https://en.wikipedia.org/wiki/Inverse_trigonometric_functions
+     *
+     * As {@code atan(-x) = -atan(x)} this is calculated for {@code |x|}. For
+     * {@code |x| > 2.5} this uses {@code atan(x) = Pi/2 - atan(1/x)} and for
+     * {@code 0.4 < |x| <= 2.5} the Machin-like split
+     * {@code atan(x) = Pi/4 + atan((x - 1)/(x + 1))}, so the remaining
+     * argument {@code t} has {@code |t| < 0.43}. Then Euler's series
+     * {@code atan(t) = (t/(1 + t^2)) sum (2n)!!/(2n + 1)!! (t^2/(1 + t^2))^n}
+     * is summed with every term positive and each at least {@code 6} times
+     * smaller than the previous one. This is done in {@link BigInteger} fixed
+     * point with Pi from {@link Math_Constants}. The result is correctly
+     * rounded.
      *
      * @param x the number to process.
      * @param oom The Order of Magnitude for the precision.
@@ -358,139 +328,163 @@ public class Math_BigRational {
      * @return The arctangent a.k.a the inverse tangent.
      */
     public static BigRational atan(BigRational x, int oom, RoundingMode rm) {
-        // atan(x) = x − x^3/3 + x^5/5 − x^7/7 +...
-        BigRational precision = BigRational.valueOf(BigInteger.ONE,
-                BigInteger.TEN.pow(1 - oom));
-        BigRational rp;
-        BigRational r0;
-        BigRational r = x;
-        int factor = 3;
-        BigRational x2 = x.pow(2);
-        BigRational power = x.pow(3);
-        boolean alternator = true;
-        int i = 0;
-        while (true) {
-            i ++;
-            rp = power.divide(factor);
-            if (alternator) {
-                alternator = false;
-                r0 = r.subtract(rp);
-            } else {
-                alternator = true;
-                r0 = r.add(rp);
-            }
-            BigRational diff = r.subtract(r0);
-            //if (i % 100000 == 0) {
-            //    System.out.println(r0.toPlainString() + ", diff = " + diff.toPlainString());
-            //}            
-            if (diff.abs().compareTo(precision) == -1) {
-                break;
-            }
-            //r = r0;
-            r = Math_BigRational.round(r0, oom - 2, rm);
-            factor += 2;
-            //power = power.multiply(x2);
-            power = Math_BigRational.round(power.multiply(x2), oom - 2, rm);
+        if (x.isZero()) {
+            return BigRational.ZERO;
         }
-        return round(r, oom, rm);
+        BigInteger[] pq = getNumeratorAndDenominator(x);
+        return round(s -> atan(pq[0], pq[1], s), oom, rm);
     }
 
-//    /**
-//     * This has issues!
-//     * For calculating the arctangent of {@code x}.
-//     * https://en.wikipedia.org/wiki/Inverse_trigonometric_functions (This uses
-//     * a formula discovered by Euler that should converge faster than that using
-//     * a Taylor series.)
-//     *
-//     * @param x the number to process.
-//     * @param oom The Order of Magnitude for the precision.
-//     * @param rm The RoundingMode if rounding is necessary.
-//     * @return The arctangent a.k.a the inverse tangent.
-//     */
-//    public static BigRational atan(BigRational x, Math_BigInteger bi, int oom, RoundingMode rm) {
-//        if (x.compareTo(BigRational.ZERO) == -1) {
-//            return atan(x.negate(), bi, oom, rm).negate();
-//        }
-//        BigRational precision = BigRational.valueOf(BigInteger.ONE,
-//                BigInteger.TEN.pow(2 - oom));
-//        int n = 0;
-//        BigRational x2 = x.pow(2);
-//        BigRational r0 = getAtanPart(x, x2, bi, n);
-//        n = 1;
-//        BigRational r1 = getAtanPart(x, x2, bi, n);
-//        BigRational r = r0;
-//        while (true) {
-//            r = r.add(r1);
-//            if (n % 100 == 0) {
-//                System.out.println(r.toPlainString());
-//            }
-//            BigRational diff = r0.subtract(r1);
-//            if (diff.abs().compareTo(precision) != -1) {
-//                r0 = r1;
-//                n++;
-//                r1 = getAtanPart(x, x2, bi, n);
-//            } else {
-//                break;
-//            }
-//        }
-//        return round(r, oom, rm);
-//    }
-//
-//    private static BigRational getAtanPart(BigRational x, BigRational x2, Math_BigInteger bi, int n) {
-//        int n2p1 = (2 * n) + 1;
-//        BigInteger f_n = bi.factorial(n);
-//        BigInteger f_2np1 = bi.factorial(n2p1);
-//        return (((BigRational.TWO.pow(2 * n)).multiply(f_n.pow(2)))
-//                .divide(f_2np1)).multiply((x.pow(n2p1)).divide(
-//                (BigRational.ONE.add(x2))).pow(n + 1));
-//    }
-
     /**
      * For calculating the angle between the positive x-axis and the ray from
      * the origin to point (x, y) in the Cartesian plane.
      * https://en.wikipedia.org/wiki/Atan2
      *
+     * This is {@code atan(y/x)} adjusted by {@code Pi} for {@code x < 0} and
+     * is {@code Pi/2} or {@code -Pi/2} for {@code x = 0}. It is calculated in
+     * the same way as {@link #atan(BigRational, int, RoundingMode)} and is
+     * correctly rounded.
+     *
      * @param x The x coordinate.
      * @param y The y coordinate.
-     * @param bd The Math_BigDecimal used to approximate Pi.
+     * @param bd Not used, Pi is from {@link Math_Constants#PI}.
      * @param oom The Order of Magnitude for the precision.
      * @param rm The RoundingMode if rounding is necessary.
-     * @return The arctangent a.k.a the inverse tangent.
+     * @return The angle in radians in the range {@code (-Pi, Pi]}.
      */
     public static BigRational atan2(BigRational x, BigRational y,
             Math_BigDecimal bd, int oom, RoundingMode rm) {
-        // atan(x) = x − x^3/3 + x^5/5 − x^7/7 +...
-        BigRational atan = atan(x.divide(y), oom - 1, rm);
-        //BigRational atan = atan(x.divide(y), bd.bi, oom - 1, rm);
-        int xc0 = x.compareTo(BigRational.ZERO);
-        if (xc0 == 1) {
-            return Math_BigRational.round(atan, oom, rm);
+        int xc0 = x.signum();
+        int yc0 = y.signum();
+        if (xc0 == 0 && yc0 == 0) {
+            throw new RuntimeException("atan2 is undefined as x=y=0");
         }
-        int yc0 = y.compareTo(BigRational.ZERO);
-        BigRational pi = BigRational.valueOf(bd.getPi(oom - 1, rm));
-        switch (xc0) {
-            case -1 -> {
-                if (yc0 != -1) {
-                    return Math_BigRational.round(atan.add(pi), oom, rm);
-                } else {
-                    return Math_BigRational.round(atan.subtract(pi), oom, rm);
-                }
+        if (yc0 == 0 && xc0 == 1) {
+            return BigRational.ZERO;
+        }
+        BigInteger[] xpq = getNumeratorAndDenominator(x);
+        BigInteger[] ypq = getNumeratorAndDenominator(y);
+        // y/x = p/q
+        BigInteger p = ypq[0].multiply(xpq[1]);
+        BigInteger q = ypq[1].multiply(xpq[0]);
+        return round(s -> {
+            if (xc0 == 0) {
+                BigInteger hpi = getPiFixed(s).shiftRight(1);
+                return yc0 == 1 ? hpi : hpi.negate();
             }
-            default -> {
-                BigRational hpi = pi.divide(2);
-                switch (yc0) {
-                    case 1 -> {
-                        return Math_BigRational.round(atan.add(hpi), oom, rm);
-                    }
-                    case -1 -> {
-                        return Math_BigRational.round(atan.subtract(hpi), oom, rm);
-                    }
-                    default ->
-                        throw new RuntimeException(
-                                "atan2 is undefined as x=y=0");
-                }
+            BigInteger r = yc0 == 0 ? BigInteger.ZERO : atan(p, q, s);
+            if (xc0 == 1) {
+                return r;
             }
+            return yc0 == -1 ? r.subtract(getPiFixed(s)) : r.add(getPiFixed(s));
+        }, oom, rm);
+    }
+
+    /**
+     * @param x The number.
+     * @return {@code {p, q}} with {@code x = p/q} and {@code q > 0}.
+     */
+    private static BigInteger[] getNumeratorAndDenominator(BigRational x) {
+        BigDecimal n = x.getNumerator();
+        BigDecimal d = x.getDenominator();
+        int s = Math.max(0, Math.max(n.scale(), d.scale()));
+        BigInteger p = n.movePointRight(s).toBigIntegerExact();
+        BigInteger q = d.movePointRight(s).toBigIntegerExact();
+        if (q.signum() == -1) {
+            return new BigInteger[]{p.negate(), q.negate()};
+        }
+        return new BigInteger[]{p, q};
+    }
+
+    /**
+     * Rounds the result of a calculation for which the exact result is
+     * irrational.
+     *
+     * @param f Given a scale {@code s} this returns the value multiplied by
+     * {@code 10^s} with an absolute error of less than {@code 10}.
+     * @param oom The order of magnitude to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return The result of {@code f} rounded to {@code oom} using {@code rm}.
+     */
+    private static BigRational round(IntFunction<BigInteger> f, int oom,
+            RoundingMode rm) {
+        return BigRational.valueOf(Math_BigDecimal.roundIrrational(
+                s -> new BigDecimal(f.apply(s), s), oom, rm));
+    }
+
+    /**
+     * @param s The scale.
+     * @return Pi multiplied by {@code 10^s} with an absolute error of less
+     * than {@code 1}.
+     */
+    private static BigInteger getPiFixed(int s) {
+        return Math_Constants.PI.getValue(-s - 1).setScale(s,
+                RoundingMode.DOWN).unscaledValue();
+    }
+
+    /**
+     * Calculates {@code atan(p/q)} in fixed point.
+     *
+     * @param p The numerator.
+     * @param q The denominator which must not be zero.
+     * @param s The scale.
+     * @return {@code atan(p/q)} multiplied by {@code 10^s} with an absolute
+     * error of less than {@code 10}.
+     */
+    private static BigInteger atan(BigInteger p, BigInteger q, int s) {
+        boolean negative = p.signum() * q.signum() == -1;
+        p = p.abs();
+        q = q.abs();
+        // Work with guard digits for the errors of each term.
+        int w = s + 4 + Integer.toString(s).length();
+        BigInteger r;
+        if (p.shiftLeft(1).compareTo(q.multiply(BigInteger.valueOf(5))) > 0) {
+            // p/q > 2.5 so atan(p/q) = Pi/2 - atan(q/p) with q/p < 0.4
+            r = getPiFixed(w).shiftRight(1).subtract(atanEuler(q, p, w));
+        } else if (p.multiply(BigInteger.valueOf(5)).compareTo(
+                q.shiftLeft(1)) > 0) {
+            /*
+             * 0.4 < p/q <= 2.5 so atan(p/q) = Pi/4 + atan((p - q)/(p + q))
+             * with |(p - q)/(p + q)| <= 3/7 < 0.43
+             */
+            r = getPiFixed(w).shiftRight(2).add(atanEuler(p.subtract(q),
+                    p.add(q), w));
+        } else {
+            r = atanEuler(p, q, w);
+        }
+        r = r.divide(Math_PowersOfTen.bigInteger(w - s));
+        return negative ? r.negate() : r;
+    }
+
+    /**
+     * Calculates {@code atan(p/q)} for {@code |p/q| < 0.43} in fixed point
+     * using Euler's series.
+     *
+     * @param p The numerator.
+     * @param q The denominator which must be positive.
+     * @param w The scale.
+     * @return {@code atan(p/q)} multiplied by {@code 10^w} with an absolute
+     * error of at most the number of terms summed plus {@code 1}.
+     */
+    private static BigInteger atanEuler(BigInteger p, BigInteger q, int w) {
+        boolean negative = p.signum() == -1;
+        p = p.abs();
+        BigInteger sw = Math_PowersOfTen.bigInteger(w);
+        // Replace p/q by a rational with a denominator of 10^w if shorter.
+        if (q.compareTo(sw) > 0) {
+            p = p.multiply(sw).divide(q);
+            q = sw;
+        }
+        BigInteger p2 = p.multiply(p);
+        BigInteger m = p2.add(q.multiply(q));
+        BigInteger t = p.multiply(q).multiply(sw).divide(m);
+        BigInteger r = t;
+        for (long k = 1; t.signum() != 0; k++) {
+            t = t.multiply(p2).multiply(BigInteger.valueOf(2 * k)).divide(
+                    m.multiply(BigInteger.valueOf(2 * k + 1)));
+            r = r.add(t);
         }
+        return negative ? r.negate() : r;
     }
 
     /**
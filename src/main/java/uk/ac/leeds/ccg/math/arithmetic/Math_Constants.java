@@ -0,0 +1,341 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * A process wide cache of mathematical constants calculated to arbitrary
+ * precision. Each constant is held in a {@link Constant} which can be used
+ * safely by any number of threads.
+ *
+ * Reading a constant to a precision that has already been calculated takes
+ * no lock. When more precision is wanted, the constant is calculated without
+ * holding a lock and published by compare and set, so the cached precision
+ * only ever increases. Threads that miss at the same time may each calculate
+ * the constant, but the most precise value is kept.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Constants {
+
+    /**
+     * The number of extra decimal places calculated.
+     */
+    private static final int GUARD_DIGITS = 10;
+
+    /**
+     * For calculating <a href="https://en.wikipedia.org/wiki/Pi">Pi</a>.
+     */
+    private static final Math_Pi PI_CALCULATOR = new Math_Pi();
+
+    /**
+     * <a href="https://en.wikipedia.org/wiki/Pi">Pi</a>
+     * {@code 3.1415926535897932384626433...}.
+     */
+    public static final Constant PI = new Constant("Pi",
+            d -> PI_CALCULATOR.getPi(-d));
+
+    /**
+     * <a href="https://en.wikipedia.org/wiki/E_(mathematical_constant)">Euler's
+     * number</a> {@code 2.7182818284590452353602874...}.
+     */
+    public static final Constant E = new Constant("e", Math_Exp::e);
+
+    /**
+     * The natural logarithm of 2 {@code 0.6931471805599453094172321...}.
+     */
+    public static final Constant LN2 = new Constant("ln2",
+            Math_Constants::calculateLn2);
+
+    /**
+     * The natural logarithm of 10 {@code 2.3025850929940456840179914...}.
+     */
+    public static final Constant LN10 = new Constant("ln10",
+            Math_Constants::calculateLn10);
+
+    /**
+     * The maximum number of natural logarithms cached by {@link #getLn}.
+     */
+    public static final int LN_CACHE_SIZE = 256;
+
+    /**
+     * For caching natural logarithms keyed by the number with trailing zeros
+     * stripped.
+     */
+    private static final ConcurrentHashMap<BigDecimal, Constant> LNS
+            = new ConcurrentHashMap<>();
+
+    static {
+        LNS.put(BigDecimal.valueOf(2), LN2);
+        LNS.put(BigDecimal.TEN.stripTrailingZeros(), LN10);
+    }
+
+    private Math_Constants() {
+    }
+
+    /**
+     * @return {@link #PI}, {@link #E}, {@link #LN2} and {@link #LN10}.
+     */
+    public static Constant[] getConstants() {
+        return new Constant[]{PI, E, LN2, LN10};
+    }
+
+    /**
+     * For getting the natural logarithm of {@code x} as a {@link Constant} so
+     * that it is calculated once for each precision it is wanted to. This is
+     * for logarithms to a base which is used repeatedly. Up to
+     * {@link #LN_CACHE_SIZE} of these are cached, after which a new
+     * {@link Constant} that is not cached is returned.
+     *
+     * @param x The number to get the natural logarithm of.
+     * @return {@code ln(x)} as a {@link Constant}. For {@code x = 2} this is
+     * {@link #LN2} and for {@code x = 10} this is {@link #LN10}.
+     * @throws IllegalArgumentException If {@code x <= 0}.
+     */
+    public static Constant getLn(BigDecimal x) {
+        if (x.signum() != 1) {
+            throw new IllegalArgumentException("x <= 0");
+        }
+        BigDecimal k = x.stripTrailingZeros();
+        Constant r = LNS.get(k);
+        if (r == null) {
+            r = new Constant("ln" + k.toPlainString(),
+                    d -> Math_Ln.ln(k, d + 1));
+            if (LNS.size() < LN_CACHE_SIZE) {
+                Constant c = LNS.putIfAbsent(k, r);
+                if (c != null) {
+                    r = c;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Calculates {@code ln(2) = 2 atanh(1/3)}.
+     *
+     * @param d The number of decimal places.
+     * @return {@code ln(2)} accurate to at least {@code d} decimal places.
+     */
+    static BigDecimal calculateLn2(int d) {
+        return atanhInverse(3, getScale(d)).multiply(Math_BigDecimal.TWO);
+    }
+
+    /**
+     * Calculates {@code ln(10) = 3 ln(2) + ln(5/4) = 3 ln(2) + 2 atanh(1/9)}.
+     *
+     * @param d The number of decimal places.
+     * @return {@code ln(10)} accurate to at least {@code d} decimal places.
+     */
+    static BigDecimal calculateLn10(int d) {
+        int s = getScale(d);
+        return LN2.getValue(-s).multiply(BigDecimal.valueOf(3))
+                .add(atanhInverse(9, s).multiply(Math_BigDecimal.TWO));
+    }
+
+    /**
+     * @param d The number of decimal places.
+     * @return The scale to calculate to for the result to be accurate to at
+     * least {@code d} decimal places. This allows for the error of each
+     * truncated term of a series with up to about {@code d} terms.
+     */
+    private static int getScale(int d) {
+        return d + GUARD_DIGITS + Integer.toString(d).length();
+    }
+
+    /**
+     * Calculates {@code atanh(1/q) = sum 1/((2k+1)q^(2k+1))}.
+     *
+     * @param q The inverse of the argument with {@code q > 1}.
+     * @param s The scale.
+     * @return {@code atanh(1/q)} with each term truncated to scale {@code s}.
+     */
+    private static BigDecimal atanhInverse(int q, int s) {
+        BigDecimal bq2 = BigDecimal.valueOf((long) q * q);
+        BigDecimal p = BigDecimal.ONE.divide(BigDecimal.valueOf(q), s,
+                RoundingMode.DOWN);
+        BigDecimal r = p;
+        for (long k = 3; p.signum() != 0; k += 2) {
+            p = p.divide(bq2, s, RoundingMode.DOWN);
+            r = r.add(p.divide(BigDecimal.valueOf(k), s, RoundingMode.DOWN));
+        }
+        return r;
+    }
+
+    /**
+     * A constant calculated to arbitrary precision and cached.
+     */
+    public static class Constant {
+
+        /**
+         * The name of the constant.
+         */
+        private final String name;
+
+        /**
+         * For calculating the constant to a number of decimal places.
+         */
+        private final IntFunction<BigDecimal> calculator;
+
+        /**
+         * The most precise value calculated.
+         */
+        private final AtomicReference<Value> value;
+
+        /**
+         * The number of requests answered from {@link #value}.
+         */
+        private final LongAdder hits;
+
+        /**
+         * The number of requests that needed the constant to be calculated.
+         */
+        private final LongAdder misses;
+
+        /**
+         * Create a new instance.
+         *
+         * @param name The name of the constant.
+         * @param calculator For calculating the constant. Given a number of
+         * decimal places {@code d} this must return a value accurate to at
+         * least {@code d} decimal places.
+         */
+        public Constant(String name, IntFunction<BigDecimal> calculator) {
+            this.name = name;
+            this.calculator = calculator;
+            this.value = new AtomicReference<>(new Value(null, -1));
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+        }
+
+        /**
+         * @return The name of the constant.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @param oom The
+         * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order
+         * of Magnitude</a> to round to.
+         * @param rm The {@link RoundingMode} used to round.
+         * @return The constant rounded to {@code oom} using {@code rm}.
+         */
+        public BigDecimal get(int oom, RoundingMode rm) {
+            return Math_BigDecimal.round(getValue(oom - 1), oom, rm);
+        }
+
+        /**
+         * @param oom The order of magnitude.
+         * @return The constant accurate to at least {@code oom} and possibly
+         * to a much smaller order of magnitude. This is not rounded.
+         */
+        public BigDecimal getValue(int oom) {
+            int d = Math.max(0, -oom) + GUARD_DIGITS;
+            Value v = value.get();
+            if (v.dp >= d) {
+                hits.increment();
+                return v.x;
+            }
+            misses.increment();
+            /*
+             * At least double the precision so that gradually increasing
+             * requests are answered by few calculations.
+             */
+            if (v.dp > 0) {
+                d = (int) Math.max(d, Math.min(Integer.MAX_VALUE / 2L,
+                        2L * v.dp));
+            }
+            Value n = new Value(calculator.apply(d), d);
+            while (true) {
+                Value c = value.get();
+                if (c.dp >= n.dp) {
+                    return c.x;
+                }
+                if (value.compareAndSet(c, n)) {
+                    return n.x;
+                }
+            }
+        }
+
+        /**
+         * @return The number of decimal places the constant is cached to or
+         * {@code -1} if it has not been calculated.
+         */
+        public int getDecimalPlaces() {
+            return value.get().dp;
+        }
+
+        /**
+         * @return The number of requests answered from the cache.
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @return The number of requests that needed the constant to be
+         * calculated.
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * Resets the hits and misses counts to zero.
+         */
+        public void resetMetrics() {
+            hits.reset();
+            misses.reset();
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(name=" + name
+                    + ", decimalPlaces=" + getDecimalPlaces()
+                    + ", hits=" + getHits() + ", misses=" + getMisses() + ")";
+        }
+    }
+
+    /**
+     * A value and the number of decimal places it is accurate to.
+     */
+    private static final class Value {
+
+        /**
+         * The value.
+         */
+        final BigDecimal x;
+
+        /**
+         * The number of decimal places {@link #x} is accurate to.
+         */
+        final int dp;
+
+        Value(BigDecimal x, int dp) {
+            this.x = x;
+            this.dp = dp;
+        }
+    }
+}
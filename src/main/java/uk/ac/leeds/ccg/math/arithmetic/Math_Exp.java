@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * For calculating the
+ * <a href="https://en.wikipedia.org/wiki/Exponential_function">exponential
+ * function</a> {@code e^x} to arbitrary precision.
+ *
+ * The argument is reduced to {@code r = x/2^k} with {@code |r|} small, the
+ * Taylor series {@code e^r = 1 + r/1! + r^2/2! + ...} is summed by
+ * <a href="https://en.wikipedia.org/wiki/Binary_splitting">binary
+ * splitting</a> with a single final division, and the result is squared
+ * {@code k} times. Binary splitting keeps the terms as integers that are
+ * combined in a balanced tree, so the work is dominated by a few large
+ * multiplications rather than one division per term. A reduced argument with
+ * many digits is summed in parts as described in
+ * {@link #expReduced(BigDecimal, int, MathContext)}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Exp {
+
+    /**
+     * The number of decimal places in the first part of the reduced argument
+     * in {@link #expReduced(BigDecimal, int, MathContext)}.
+     */
+    public static final int FIRST_BURST = 64;
+
+    /**
+     * {@code log10(e)}
+     */
+    private static final double LOG10E = Math.log10(Math.E);
+
+    /**
+     * {@code log10(2)}
+     */
+    private static final double LOG102 = Math.log10(2d);
+
+    private Math_Exp() {
+    }
+
+    /**
+     * Calculates and returns {@code e^x} rounded to {@code oom}.
+     *
+     * @param x The exponent.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code e^x} rounded to {@code oom} using {@code rm}.
+     * @throws ArithmeticException If {@code e^x} is too large to represent.
+     */
+    public static BigDecimal exp(BigDecimal x, int oom, RoundingMode rm) {
+        if (x.signum() == 0) {
+            return Math_BigDecimal.round(BigDecimal.ONE, oom, rm);
+        }
+        double mag = Math.floor(x.doubleValue() * LOG10E);
+        if (mag > Integer.MAX_VALUE / 2) {
+            throw new ArithmeticException("Overflow calculating e^" + x);
+        }
+        /*
+         * e^x is irrational for x != 0. The OOM of e^x is at most mag + 1, so
+         * with mag + 3 + dp significant digits the error is less than
+         * 10^(-dp).
+         */
+        long m = (long) mag + 3;
+        return Math_BigDecimal.roundIrrational(dp -> exp(x, (int) Math.max(1,
+                Math.min(Integer.MAX_VALUE / 2, dp + m))), oom, rm);
+    }
+
+    /**
+     * Calculates and returns {@code e^x} to a relative precision.
+     *
+     * @param x The exponent.
+     * @param p The number of significant digits wanted.
+     * @return {@code e^x} to at least {@code p - 1} significant digits. This is
+     * not rounded to {@code p} digits.
+     */
+    public static BigDecimal exp(BigDecimal x, int p) {
+        if (x.signum() == 0) {
+            return BigDecimal.ONE;
+        }
+        // Reduce x so that |r| < 2^-m.
+        int ix = x.abs().toBigInteger().bitLength();
+        int m = Math.max(4, (int) Math.sqrt(p));
+        int k = ix + m;
+        int wp = p + (int) Math.ceil(k * LOG102) + 2;
+        BigDecimal r = x.divide(BigDecimal.valueOf(2).pow(k))
+                .setScale(wp + 2, RoundingMode.HALF_EVEN);
+        MathContext mc = new MathContext(wp);
+        BigDecimal y = expReduced(r, m, mc);
+        for (int i = 0; i < k; i++) {
+            y = y.multiply(y, mc);
+        }
+        return y;
+    }
+
+    /**
+     * Calculates {@code e^r} using the bit-burst algorithm. {@code r} is split
+     * into {@code r0 + r1 + ...} where {@code r0} is {@code r} truncated to
+     * {@link #FIRST_BURST} decimal places and each subsequent {@code rj}
+     * holds the next {@code 2^(j-1)} times as many decimal places of
+     * {@code r}. The numerator of each {@code rj} is then only as long as its
+     * magnitude is small, so the numbers in the binary splitting of each
+     * {@code e^rj} stay about as long as the precision.
+     *
+     * @param r The exponent.
+     * @param m {@code |r| < 2^-m}.
+     * @param mc The {@link MathContext}.
+     * @return {@code e^r}.
+     */
+    static BigDecimal expReduced(BigDecimal r, int m, MathContext mc) {
+        int dp = r.scale();
+        BigDecimal y = null;
+        BigDecimal done = BigDecimal.ZERO;
+        int lo = 0;
+        int hi = Math.min(dp, FIRST_BURST);
+        while (true) {
+            BigDecimal t = r.setScale(hi, RoundingMode.DOWN);
+            BigDecimal rj = t.subtract(done);
+            done = t;
+            double log10rj = lo == 0 ? -m * LOG102 : -lo;
+            BigDecimal ej = expReduced(rj.unscaledValue(),
+                    Math_PowersOfTen.bigInteger(rj.scale()), dp, log10rj, mc);
+            y = y == null ? ej : y.multiply(ej, mc);
+            if (hi == dp) {
+                return y;
+            }
+            lo = hi;
+            hi = (int) Math.min(dp, 2L * hi);
+        }
+    }
+
+    /**
+     * Calculates {@code e^(n/d)} by binary splitting.
+     *
+     * @param n The numerator.
+     * @param d The denominator.
+     * @param dp The number of decimal places the sum of the series must be
+     * accurate to.
+     * @param log10x An upper bound for {@code log10(|n/d|)}.
+     * @param mc The {@link MathContext} for the final division.
+     * @return {@code e^(n/d)}.
+     */
+    static BigDecimal expReduced(BigInteger n, BigInteger d, int dp,
+            double log10x, MathContext mc) {
+        if (n.signum() == 0) {
+            return BigDecimal.ONE;
+        }
+        int nt = getTerms(log10x, dp);
+        BigInteger[] s = split(n, d, 1, nt + 1);
+        // e^(n/d) = 1 + T/Q = (Q + T)/Q
+        return new BigDecimal(s[1].add(s[2])).divide(new BigDecimal(s[1]), mc);
+    }
+
+    /**
+     * Calculates {@code e} to a number of decimal places by binary splitting.
+     *
+     * @param dp The number of decimal places.
+     * @return {@code e} accurate to at least {@code dp} decimal places.
+     */
+    public static BigDecimal e(int dp) {
+        int s = dp + Math_BigDecimal.GUARD_DIGITS;
+        int nt = getTerms(0d, s);
+        BigInteger[] t = split(BigInteger.ONE, BigInteger.ONE, 1, nt + 1);
+        return new BigDecimal(t[1].add(t[2])).divide(new BigDecimal(t[1]),
+                s, RoundingMode.DOWN);
+    }
+
+    /**
+     * @param log10x An upper bound for {@code log10(|x|)}.
+     * @param dp The number of decimal places.
+     * @return The smallest number of terms {@code n} such that
+     * {@code |x|^n/n!} is less than {@code 10^-dp}.
+     */
+    private static int getTerms(double log10x, int dp) {
+        double t = 0d;
+        int n = 0;
+        while (t > -dp) {
+            n++;
+            t += log10x - Math.log10(n);
+        }
+        return n;
+    }
+
+    /**
+     * For the terms {@code a} to {@code b - 1} of the series for
+     * {@code e^(n/d)}, where term {@code j} is {@code (n/d)^j/j!}, this
+     * calculates {@code P = n^(b-a)}, {@code Q = d^(b-a) a(a+1)...(b-1)} and
+     * {@code T} such that the sum of the terms is
+     * {@code (T/Q) (n/d)^(a-1)/(a-1)!}.
+     *
+     * @param n The numerator.
+     * @param d The denominator.
+     * @param a The first term.
+     * @param b One more than the last term.
+     * @return {@code {P, Q, T}}
+     */
+    static BigInteger[] split(BigInteger n, BigInteger d, long a, long b) {
+        if (b - a == 1) {
+            return new BigInteger[]{n, d.multiply(BigInteger.valueOf(a)), n};
+        }
+        long c = (a + b) >>> 1;
+        BigInteger[] l = split(n, d, a, c);
+        BigInteger[] h = split(n, d, c, b);
+        return new BigInteger[]{l[0].multiply(h[0]), l[1].multiply(h[1]),
+            l[2].multiply(h[1]).add(l[0].multiply(h[2]))};
+    }
+}
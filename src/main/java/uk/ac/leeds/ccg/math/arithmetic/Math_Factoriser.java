@@ -0,0 +1,494 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicReference;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeSieve;
+import uk.ac.leeds.ccg.math.util.Math_Collections;
+
+/**
+ * For finding the prime factorisation of {@link BigInteger} numbers.
+ *
+ * Factors are found by:
+ * <ol>
+ * <li>Trial division by the primes less than {@link #TRIAL_LIMIT} which are
+ * sieved once and cached.</li>
+ * <li><a href="https://en.wikipedia.org/wiki/Pollard%27s_rho_algorithm">Pollard's
+ * rho algorithm</a> with Brent's cycle detection.</li>
+ * <li><a href="https://en.wikipedia.org/wiki/Lenstra_elliptic-curve_factorization">Lenstra
+ * elliptic curve factorisation</a> (ECM) using Montgomery curves with
+ * Suyama's parameterisation, for cofactors that resist Pollard's rho. Curves
+ * are run in parallel in a {@link ForkJoinPool}.</li>
+ * </ol>
+ * Primality of cofactors is tested using
+ * {@link Math_BigInteger#isProbablePrime(java.math.BigInteger)}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Factoriser {
+
+    /**
+     * Trial division is done with all the primes less than this.
+     */
+    public static final int TRIAL_LIMIT = 65536;
+
+    /**
+     * The primes less than {@link #TRIAL_LIMIT}.
+     */
+    private static int[] trialPrimes;
+
+    /**
+     * The maximum number of iterations of Pollard's rho per polynomial.
+     */
+    private static final long RHO_ITERATIONS = 1L << 18;
+
+    /**
+     * The number of polynomials tried with Pollard's rho before ECM is used.
+     */
+    private static final int RHO_POLYNOMIALS = 2;
+
+    /**
+     * The ECM stage 1 bounds used in turn and the number of curves run with
+     * each.
+     */
+    private static final long[][] ECM_LEVELS = {{2000, 25}, {11000, 90},
+        {50000, 300}, {250000, 700}, {1000000, 1800}, {3000000, 5100},
+        {11000000, 10600}};
+
+    private static final BigInteger ONE = BigInteger.ONE;
+    private static final BigInteger TWO = BigInteger.TWO;
+
+    /**
+     * The pool used for running ECM curves in parallel.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * Create a new instance that uses {@link ForkJoinPool#commonPool()}.
+     */
+    public Math_Factoriser() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param pool The pool used for running ECM curves in parallel.
+     */
+    public Math_Factoriser(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return The primes less than {@link #TRIAL_LIMIT} initialising them if
+     * necessary.
+     */
+    static synchronized int[] getTrialPrimes() {
+        if (trialPrimes == null) {
+            long[] p = new Math_PrimeSieve().primesInRange(2, TRIAL_LIMIT - 1);
+            int[] r = new int[p.length];
+            for (int i = 0; i < p.length; i++) {
+                r[i] = (int) p[i];
+            }
+            trialPrimes = r;
+        }
+        return trialPrimes;
+    }
+
+    /**
+     * Find the prime factorisation of {@code x}.
+     *
+     * @param x The number to factorise.
+     * @return A map with keys that are the prime factors of {@code x} in
+     * ascending order and values that are the number of times each factor
+     * divides {@code x}. If {@code x < 2} the map is empty.
+     */
+    public TreeMap<BigInteger, Integer> factorise(BigInteger x) {
+        TreeMap<BigInteger, Integer> r = new TreeMap<>();
+        if (x.compareTo(TWO) < 0) {
+            return r;
+        }
+        // Handle even values.
+        int tz = x.getLowestSetBit();
+        if (tz > 0) {
+            r.put(TWO, tz);
+            x = x.shiftRight(tz);
+        }
+        // Trial division.
+        int[] tp = getTrialPrimes();
+        for (int i = 1; i < tp.length && x.compareTo(ONE) > 0; i++) {
+            BigInteger p = BigInteger.valueOf(tp[i]);
+            BigInteger[] qr = x.divideAndRemainder(p);
+            if (qr[1].signum() == 0) {
+                int e = 0;
+                do {
+                    x = qr[0];
+                    e++;
+                    qr = x.divideAndRemainder(p);
+                } while (qr[1].signum() == 0);
+                r.put(p, e);
+            }
+            if (x.bitLength() < 32
+                    && x.longValue() < (long) tp[i] * tp[i]) {
+                break;
+            }
+        }
+        if (x.compareTo(ONE) > 0) {
+            factoriseCofactor(x, 1, r);
+        }
+        return r;
+    }
+
+    /**
+     * Factorises {@code x} which has no prime factors less than
+     * {@link #TRIAL_LIMIT} adding the factors to {@code r}.
+     *
+     * @param x The number to factorise.
+     * @param e The exponent with which {@code x} divides the original number.
+     * @param r The map to add factors to.
+     */
+    private void factoriseCofactor(BigInteger x, int e,
+            TreeMap<BigInteger, Integer> r) {
+        if (x.compareTo(BigInteger.valueOf((long) TRIAL_LIMIT * TRIAL_LIMIT)) < 0
+                || Math_BigInteger.isProbablePrime(x)) {
+            Math_Collections.addToCount(r, x, e);
+            return;
+        }
+        // Cofactors that fit in a long are factorised without boxing.
+        if (x.bitLength() < Long.SIZE - 1) {
+            long[] f = Math_Long.getPrimeFactorisation(x.longValueExact());
+            for (int i = 0; i < f.length; i += 2) {
+                Math_Collections.addToCount(r, BigInteger.valueOf(f[i]),
+                        e * (int) f[i + 1]);
+            }
+            return;
+        }
+        // Perfect powers.
+        for (int k = x.bitLength() / 16; k >= 2; k--) {
+            BigInteger b = root(x, k);
+            if (b.pow(k).equals(x)) {
+                factoriseCofactor(b, e * k, r);
+                return;
+            }
+        }
+        BigInteger d = findFactor(x);
+        BigInteger q = x.divide(d);
+        /*
+         * Remove repeated copies of d from q. As d may be composite, d and q
+         * may still share prime factors, but both are factorised into r which
+         * adds up the exponents of shared primes.
+         */
+        int m = 0;
+        while (q.mod(d).signum() == 0) {
+            q = q.divide(d);
+            m++;
+        }
+        factoriseCofactor(d, e * (m + 1), r);
+        if (q.compareTo(ONE) > 0) {
+            factoriseCofactor(q, e, r);
+        }
+    }
+
+    /**
+     * Find a non-trivial factor of {@code n} which is odd, composite and not
+     * a perfect power.
+     *
+     * @param n The number to find a factor of.
+     * @return A factor of {@code n} greater than {@code 1} and less than
+     * {@code n}.
+     */
+    BigInteger findFactor(BigInteger n) {
+        for (int c = 1; c <= RHO_POLYNOMIALS; c++) {
+            BigInteger d = brent(n, BigInteger.valueOf(c), RHO_ITERATIONS);
+            if (d != null) {
+                return d;
+            }
+        }
+        for (long[] level : ECM_LEVELS) {
+            BigInteger d = ecm(n, level[0], (int) level[1]);
+            if (d != null) {
+                return d;
+            }
+        }
+        // Keep going with ever larger bounds.
+        long b1 = ECM_LEVELS[ECM_LEVELS.length - 1][0];
+        while (true) {
+            b1 *= 3;
+            BigInteger d = ecm(n, b1, 10000);
+            if (d != null) {
+                return d;
+            }
+        }
+    }
+
+    /**
+     * Pollard's rho algorithm with Brent's cycle detection using the
+     * polynomial {@code x^2 + c}.
+     *
+     * @param n The number to find a factor of.
+     * @param c The polynomial constant.
+     * @param maxIterations The maximum number of iterations.
+     * @return A non-trivial factor of {@code n} or {@code null} if none was
+     * found.
+     */
+    static BigInteger brent(BigInteger n, BigInteger c, long maxIterations) {
+        int m = 128;
+        BigInteger y = TWO;
+        BigInteger x = y;
+        BigInteger ys = y;
+        BigInteger q = ONE;
+        BigInteger g = ONE;
+        long r = 1;
+        while (g.equals(ONE) && r <= maxIterations) {
+            x = y;
+            for (long i = 0; i < r; i++) {
+                y = y.multiply(y).add(c).mod(n);
+            }
+            long k = 0;
+            while (k < r && g.equals(ONE)) {
+                ys = y;
+                long lim = Math.min(m, r - k);
+                for (long i = 0; i < lim; i++) {
+                    y = y.multiply(y).add(c).mod(n);
+                    q = q.multiply(x.subtract(y).abs()).mod(n);
+                }
+                g = q.gcd(n);
+                k += m;
+            }
+            r <<= 1;
+        }
+        if (g.equals(n)) {
+            // Backtrack.
+            do {
+                ys = ys.multiply(ys).add(c).mod(n);
+                g = x.subtract(ys).abs().gcd(n);
+            } while (g.equals(ONE));
+        }
+        if (g.equals(ONE) || g.equals(n)) {
+            return null;
+        }
+        return g;
+    }
+
+    /**
+     * Runs ECM curves in parallel.
+     *
+     * @param n The number to find a factor of.
+     * @param b1 The stage 1 bound. The stage 2 bound is {@code 100 * b1}.
+     * @param curves The number of curves to run.
+     * @return A non-trivial factor of {@code n} or {@code null} if none was
+     * found.
+     */
+    BigInteger ecm(BigInteger n, long b1, int curves) {
+        int[] primes = getPrimes(b1);
+        AtomicReference<BigInteger> found = new AtomicReference<>();
+        int tasks = Math.max(1, Math.min(curves, pool.getParallelism()));
+        List<ForkJoinTask<?>> fs = new ArrayList<>();
+        for (int t = 0; t < tasks; t++) {
+            final int t0 = t;
+            fs.add(pool.submit(() -> {
+                for (int i = t0; i < curves && found.get() == null;
+                        i += tasks) {
+                    BigInteger d = ecmCurve(n, 6L + i + b1, b1, primes);
+                    if (d != null) {
+                        found.compareAndSet(null, d);
+                    }
+                }
+            }));
+        }
+        for (ForkJoinTask<?> f : fs) {
+            f.join();
+        }
+        return found.get();
+    }
+
+    /**
+     * @param n The upper limit (inclusive).
+     * @return The primes less than or equal to {@code n}.
+     */
+    private static int[] getPrimes(long n) {
+        long[] p = new Math_PrimeSieve().primesInRange(2, n);
+        int[] r = new int[p.length];
+        for (int i = 0; i < p.length; i++) {
+            r[i] = (int) p[i];
+        }
+        return r;
+    }
+
+    /**
+     * Runs ECM stage 1 and stage 2 on a single Montgomery curve.
+     *
+     * @param n The number to find a factor of.
+     * @param sigma The Suyama parameter for the curve (greater than 5).
+     * @param b1 The stage 1 bound.
+     * @param primes The primes up to at least the stage 1 bound.
+     * @return A non-trivial factor of {@code n} or {@code null} if none was
+     * found.
+     */
+    static BigInteger ecmCurve(BigInteger n, long sigma, long b1,
+            int[] primes) {
+        // Suyama's parameterisation.
+        BigInteger s = BigInteger.valueOf(sigma);
+        BigInteger u = s.multiply(s).subtract(BigInteger.valueOf(5)).mod(n);
+        BigInteger v = s.shiftLeft(2).mod(n);
+        BigInteger x = u.pow(3).mod(n);
+        BigInteger z = v.pow(3).mod(n);
+        BigInteger den = x.multiply(v).shiftLeft(4).mod(n);
+        BigInteger g = den.gcd(n);
+        if (!g.equals(ONE)) {
+            return g.equals(n) ? null : g;
+        }
+        BigInteger vmu = v.subtract(u);
+        BigInteger a24 = vmu.pow(3).multiply(u.multiply(BigInteger.valueOf(3))
+                .add(v)).multiply(den.modInverse(n)).mod(n);
+        BigInteger[] p = {x, z};
+        // Stage 1.
+        int i = 0;
+        for (; i < primes.length && primes[i] <= b1; i++) {
+            long q = primes[i];
+            long qe = q;
+            while (qe <= b1 / q) {
+                qe *= q;
+            }
+            p = ladder(p, qe, n, a24);
+        }
+        g = p[1].gcd(n);
+        if (!g.equals(ONE)) {
+            return g.equals(n) ? null : g;
+        }
+        // Stage 2 using a baby step giant step continuation.
+        long b2 = b1 * 100;
+        int d = 210;
+        BigInteger[][] baby = new BigInteger[d][];
+        baby[1] = p;
+        BigInteger[] p2 = dbl(p, n, a24);
+        baby[2] = p2;
+        baby[3] = add(p2, p, p, n);
+        for (int j = 5; j < d; j += 2) {
+            baby[j] = add(baby[j - 2], p2, baby[j - 4], n);
+        }
+        BigInteger[] giant = ladder(p, 2L * d, n, a24);
+        long b = (b1 / (2L * d)) * 2L * d;
+        BigInteger[] rr = ladder(p, b, n, a24);
+        BigInteger[] tt = ladder(p, b - 2L * d, n, a24);
+        BigInteger acc = ONE;
+        while (b - d <= b2) {
+            for (int j = 1; j < d; j += 2) {
+                if (j % 3 != 0 && j % 5 != 0 && j % 7 != 0) {
+                    acc = acc.multiply(rr[0].multiply(baby[j][1]).subtract(
+                            baby[j][0].multiply(rr[1]))).mod(n);
+                }
+            }
+            BigInteger[] next = add(rr, giant, tt, n);
+            tt = rr;
+            rr = next;
+            b += 2L * d;
+        }
+        g = acc.gcd(n);
+        if (g.equals(ONE) || g.equals(n)) {
+            return null;
+        }
+        return g;
+    }
+
+    /**
+     * Montgomery ladder for computing {@code k*p} on a Montgomery curve.
+     *
+     * @param p The point as {@code {X, Z}}.
+     * @param k The multiplier which is greater than {@code 0}.
+     * @param n The modulus.
+     * @param a24 The curve constant {@code (A + 2) / 4}.
+     * @return {@code k*p}.
+     */
+    static BigInteger[] ladder(BigInteger[] p, long k, BigInteger n,
+            BigInteger a24) {
+        if (k == 1) {
+            return p;
+        }
+        BigInteger[] r0 = p;
+        BigInteger[] r1 = dbl(p, n, a24);
+        for (int i = 62 - Long.numberOfLeadingZeros(k); i >= 0; i--) {
+            if (((k >>> i) & 1L) != 0) {
+                r0 = add(r1, r0, p, n);
+                r1 = dbl(r1, n, a24);
+            } else {
+                r1 = add(r1, r0, p, n);
+                r0 = dbl(r0, n, a24);
+            }
+        }
+        return r0;
+    }
+
+    /**
+     * Point doubling on a Montgomery curve.
+     */
+    private static BigInteger[] dbl(BigInteger[] p, BigInteger n,
+            BigInteger a24) {
+        BigInteger s = p[0].add(p[1]);
+        BigInteger t1 = s.multiply(s).mod(n);
+        BigInteger d = p[0].subtract(p[1]);
+        BigInteger t2 = d.multiply(d).mod(n);
+        BigInteger t3 = t1.subtract(t2);
+        return new BigInteger[]{t1.multiply(t2).mod(n),
+            t3.multiply(t2.add(a24.multiply(t3))).mod(n)};
+    }
+
+    /**
+     * Differential point addition on a Montgomery curve.
+     *
+     * @param p A point.
+     * @param q A point.
+     * @param diff The point {@code p - q}.
+     * @param n The modulus.
+     * @return {@code p + q}.
+     */
+    private static BigInteger[] add(BigInteger[] p, BigInteger[] q,
+            BigInteger[] diff, BigInteger n) {
+        BigInteger u = p[0].subtract(p[1]).multiply(q[0].add(q[1]));
+        BigInteger v = p[0].add(p[1]).multiply(q[0].subtract(q[1]));
+        BigInteger s = u.add(v).mod(n);
+        BigInteger t = u.subtract(v).mod(n);
+        return new BigInteger[]{diff[1].multiply(s.multiply(s)).mod(n),
+            diff[0].multiply(t.multiply(t)).mod(n)};
+    }
+
+    /**
+     * @param x A positive number.
+     * @param k The root to take which is greater than {@code 1}.
+     * @return The largest integer {@code r} such that {@code r^k <= x}.
+     */
+    static BigInteger root(BigInteger x, int k) {
+        BigInteger bk = BigInteger.valueOf(k);
+        BigInteger km1 = BigInteger.valueOf(k - 1);
+        // Initial estimate which is greater than the root.
+        BigInteger r = ONE.shiftLeft(x.bitLength() / k + 1);
+        while (true) {
+            BigInteger next = km1.multiply(r).add(x.divide(r.pow(k - 1)))
+                    .divide(bk);
+            if (next.compareTo(r) >= 0) {
+                return r;
+            }
+            r = next;
+        }
+    }
+}
@@ -16,7 +16,6 @@
 package uk.ac.leeds.ccg.math.arithmetic;
 
 import java.util.TreeMap;
-import uk.ac.leeds.ccg.math.util.Math_Collections;
 import uk.ac.leeds.ccg.math.core.Math_Strings;
 
 /**
@@ -137,29 +136,27 @@ public class Math_Integer {
     }
     
     /**
-     * Multiplying by all the prime factors returns the original number. 1 and 
-     * the number itself are not included.
+     * Multiplying by all the prime factors returns the original number. 1 and
+     * the number itself are not included. This is a thin adapter for
+     * {@link Math_Long#getPrimeFactorisation(long)}.
+     *
      * @param n The number for which the prime factors are returned.
-     * @return The prime factors of {@code n} in ascending order. 
+     * @return The prime factors of {@code n} in ascending order mapped to the
+     * number of times they divide {@code n}. If {@code n} is prime or less
+     * than {@code 2}, the map is empty.
      */
     public static TreeMap<Integer, Integer> getPrimeFactors(int n) {
         TreeMap<Integer, Integer> r = new TreeMap<>();
-        int n2 = n;
-        for (int i = 2; i <= n2/2; i++) {
-            if (n2 % i == 0) {
-                Math_Collections.addToCount(r, i, 1);
-                n2 = n2 / i;
-                i = 2;
-            }
+        long[] f = Math_Long.getPrimeFactorisation(n);
+        if (f.length == 2 && f[1] == 1L) {
+            return r;
         }
-        if (!r.isEmpty()) {
-            Math_Collections.addToCount(r, n2, 1);
+        for (int i = 0; i < f.length; i += 2) {
+            r.put((int) f[i], (int) f[i + 1]);
         }
         return r;
     }
-    
-    
-    
+
     /**
      * A convenience method to get the minimum of input int numbers.
      * @param values
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * For calculating the
+ * <a href="https://en.wikipedia.org/wiki/Natural_logarithm">natural
+ * logarithm</a> to arbitrary precision using the
+ * <a href="https://en.wikipedia.org/wiki/Arithmetic%E2%80%93geometric_mean">arithmetic
+ * geometric mean</a> (AGM):
+ * <ul>
+ * <li>{@code ln(x) = Pi/(2 AGM(1, 4/s)) - m ln(2)}</li>
+ * </ul>
+ * where {@code s = x 2^m} and {@code m} is chosen so that
+ * {@code s > 10^(d/2)} for {@code d} decimal places. The AGM converges
+ * quadratically so only about {@code log2(d)} iterations of a square root
+ * and a multiplication are needed. Pi and ln(2) are taken from
+ * {@link Math_Constants}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Ln {
+
+    /**
+     * {@code log2(10)}
+     */
+    private static final double LOG2_10 = Math.log(10d) / Math.log(2d);
+
+    /**
+     * {@code 4}
+     */
+    private static final BigDecimal FOUR = BigDecimal.valueOf(4);
+
+    /**
+     * A bound for the relative error of the natural logarithm of a double.
+     */
+    private static final double EPSILON = 0x1p-50;
+
+    private Math_Ln() {
+    }
+
+    /**
+     * Calculates the natural logarithm of {@code x} in double precision. This
+     * works for any positive {@code x} including those outside the range of a
+     * double.
+     *
+     * @param x The number to calculate the natural logarithm of.
+     * @return {@code {ln(x), e}} where {@code e} is a bound for the absolute
+     * error of {@code ln(x)}.
+     * @throws IllegalArgumentException If {@code x <= 0}.
+     */
+    static double[] lnDouble(BigDecimal x) {
+        if (x.signum() != 1) {
+            throw new IllegalArgumentException("x <= 0");
+        }
+        double xd = x.doubleValue();
+        if (xd >= Double.MIN_NORMAL && xd < Double.POSITIVE_INFINITY) {
+            double l = Math.log(xd);
+            return new double[]{l, (Math.abs(l) + 1d) * EPSILON};
+        }
+        // ln(x) = ln(u/2^k) + k ln(2) - scale ln(10) for unscaled value u.
+        BigInteger u = x.unscaledValue();
+        int k = Math.max(0, u.bitLength() - 62);
+        double a = Math.log(u.shiftRight(k).doubleValue());
+        double b = k * Math.log(2d);
+        double c = x.scale() * Math.log(10d);
+        return new double[]{a + b - c,
+            (Math.abs(a) + b + Math.abs(c) + 1d) * EPSILON};
+    }
+
+    /**
+     * Calculates and returns the natural logarithm of {@code x} rounded to
+     * {@code oom}.
+     *
+     * @param x The number to calculate the natural logarithm of.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code ln(x)} rounded to {@code oom} using {@code rm}.
+     * @throws IllegalArgumentException If {@code x <= 0}.
+     */
+    public static BigDecimal ln(BigDecimal x, int oom, RoundingMode rm) {
+        if (x.compareTo(BigDecimal.ONE) == 0) {
+            return Math_BigDecimal.round(BigDecimal.ZERO, oom, rm);
+        }
+        // ln(x) is irrational for x != 1.
+        return Math_BigDecimal.roundIrrational(dp -> ln(x, dp), oom, rm);
+    }
+
+    /**
+     * Calculates and returns the natural logarithm of {@code x}.
+     *
+     * @param x The number to calculate the natural logarithm of.
+     * @param dp The number of decimal places.
+     * @return {@code ln(x)} accurate to at least {@code dp - 1} decimal
+     * places. This is not rounded.
+     * @throws IllegalArgumentException If {@code x <= 0}.
+     */
+    public static BigDecimal ln(BigDecimal x, int dp) {
+        if (x.signum() != 1) {
+            throw new IllegalArgumentException("x <= 0");
+        }
+        if (x.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ZERO;
+        }
+        int d = Math.max(dp, 1) + 2;
+        /*
+         * Choose m so that s = x 2^m > 10^(d/2) 2^(log2(d)/2 + 4) which makes
+         * the error of the AGM formula much less than 10^-d.
+         */
+        double log2x = (Math_BigDecimal.getOrderOfMagnitudeOfMostSignificantDigit(
+                x) + 1) * LOG2_10;
+        double log2s = d * LOG2_10 / 2d + Math.log(d) / Math.log(2d) / 2d + 4d;
+        int m = (int) Math.max(0L, (long) Math.ceil(log2s - log2x + LOG2_10));
+        BigDecimal s = m == 0 ? x : x.multiply(new BigDecimal(
+                BigInteger.ONE.shiftLeft(m)));
+        // Add digits for the integer part of ln(s) and for the AGM tolerance.
+        long lns = (long) Math.ceil((Math.max(log2s, log2x) + m) / LOG2_10
+                * Math.log(10d));
+        int wp = d + Long.toString(lns).length() + 4;
+        MathContext mc = new MathContext(wp);
+        BigDecimal agm = agm(BigDecimal.ONE, FOUR.divide(s, mc), mc);
+        BigDecimal pi = Math_Constants.PI.getValue(-wp);
+        BigDecimal r = pi.divide(agm.multiply(Math_BigDecimal.TWO), mc);
+        if (m != 0) {
+            BigDecimal ln2 = Math_Constants.LN2.getValue(-wp);
+            r = r.subtract(ln2.multiply(BigDecimal.valueOf(m)));
+        }
+        return r;
+    }
+
+    /**
+     * Calculates the arithmetic geometric mean of {@code a} and {@code b}.
+     *
+     * @param a A positive number.
+     * @param b A positive number.
+     * @param mc The {@link MathContext}.
+     * @return The arithmetic geometric mean of {@code a} and {@code b}
+     * accurate to about the precision of {@code mc} less three digits.
+     */
+    static BigDecimal agm(BigDecimal a, BigDecimal b, MathContext mc) {
+        int p = mc.getPrecision() - 3;
+        while (true) {
+            BigDecimal tolerance = Math_PowersOfTen.bigDecimal(
+                    Math_BigDecimal.getOrderOfMagnitudeOfMostSignificantDigit(a)
+                    - p);
+            if (a.subtract(b).abs().compareTo(tolerance) <= 0) {
+                return a;
+            }
+            BigDecimal an = a.add(b).divide(Math_BigDecimal.TWO, mc);
+            b = a.multiply(b, mc).sqrt(mc);
+            a = an;
+        }
+    }
+}
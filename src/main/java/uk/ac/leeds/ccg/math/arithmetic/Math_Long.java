@@ -15,9 +15,9 @@
  */
 package uk.ac.leeds.ccg.math.arithmetic;
 
+import java.util.Arrays;
 import java.util.TreeMap;
 import uk.ac.leeds.ccg.math.core.Math_Strings;
-import uk.ac.leeds.ccg.math.util.Math_Collections;
 
 /**
  * A class for {@code long} numbers.
@@ -177,24 +177,359 @@ public class Math_Long {
     }
 
     /**
-     * Multiplying by all the prime factors returns the original number. 1 and 
-     * the number itself are not included.
+     * The smallest primes used for trial division prior to any more
+     * expensive primality testing.
+     */
+    private static final int[] SMALL_PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23,
+        29, 31, 37};
+
+    /**
+     * A set of bases for which the
+     * <a href="https://en.wikipedia.org/wiki/Miller%E2%80%93Rabin_primality_test">Miller-Rabin
+     * test</a> is deterministic for all {@code long} values (found by Jim
+     * Sinclair).
+     */
+    private static final long[] MILLER_RABIN_BASES = {2, 325, 9375, 28178,
+        450775, 9780504, 1795265022};
+
+    /**
+     * Tests if {@code n} is prime using trial division by a few small primes
+     * followed by a deterministic
+     * <a href="https://en.wikipedia.org/wiki/Miller%E2%80%93Rabin_primality_test">Miller-Rabin
+     * test</a>. The modular multiplication is done using
+     * <a href="https://en.wikipedia.org/wiki/Montgomery_modular_multiplication">Montgomery
+     * multiplication</a> with {@link Math#unsignedMultiplyHigh(long, long)},
+     * so no division is done in the main loop.
+     *
+     * @param n The number to test.
+     * @return {@code true} iff {@code n} is prime.
+     */
+    public static boolean isPrime(long n) {
+        if (n < 2) {
+            return false;
+        }
+        for (int p : SMALL_PRIMES) {
+            if (n % p == 0) {
+                return n == p;
+            }
+        }
+        if (n < 41L * 41L) {
+            return true;
+        }
+        long nInv = montgomeryInverse(n);
+        long one = Long.remainderUnsigned(-n, n);
+        long r2 = montgomeryR2(n, one);
+        long minusOne = n - one;
+        long d = n - 1;
+        int s = Long.numberOfTrailingZeros(d);
+        d >>>= s;
+        for (long a : MILLER_RABIN_BASES) {
+            long am = a % n;
+            if (am == 0) {
+                continue;
+            }
+            long x = montgomeryPow(montgomeryMultiply(am, r2, n, nInv), d,
+                    one, n, nInv);
+            if (x == one || x == minusOne) {
+                continue;
+            }
+            boolean composite = true;
+            for (int i = 1; i < s; i++) {
+                x = montgomeryMultiply(x, x, n, nInv);
+                if (x == minusOne) {
+                    composite = false;
+                    break;
+                }
+            }
+            if (composite) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param n An odd modulus.
+     * @return {@code -n^-1 mod 2^64} computed using Newton iteration.
+     */
+    static long montgomeryInverse(long n) {
+        long x = n; // Correct to 3 bits.
+        for (int i = 0; i < 5; i++) {
+            x *= 2 - n * x;
+        }
+        return -x;
+    }
+
+    /**
+     * @param n An odd modulus less than {@code 2^63}.
+     * @param one {@code 2^64 mod n}.
+     * @return {@code 2^128 mod n}.
+     */
+    static long montgomeryR2(long n, long one) {
+        long r = one;
+        for (int i = 0; i < 64; i++) {
+            r <<= 1;
+            if (Long.compareUnsigned(r, n) >= 0) {
+                r -= n;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Montgomery multiplication.
+     *
+     * @param a A number in Montgomery form less than {@code n}.
+     * @param b A number in Montgomery form less than {@code n}.
+     * @param n An odd modulus less than {@code 2^63}.
+     * @param nInv {@code -n^-1 mod 2^64}.
+     * @return {@code a*b*2^-64 mod n}.
+     */
+    static long montgomeryMultiply(long a, long b, long n, long nInv) {
+        long lo = a * b;
+        long hi = Math.unsignedMultiplyHigh(a, b);
+        long m = lo * nInv;
+        long t = hi + Math.unsignedMultiplyHigh(m, n) + (lo != 0 ? 1 : 0);
+        if (Long.compareUnsigned(t, n) >= 0) {
+            t -= n;
+        }
+        return t;
+    }
+
+    /**
+     * Montgomery exponentiation.
+     *
+     * @param a The base in Montgomery form.
+     * @param e The exponent.
+     * @param one {@code 1} in Montgomery form ({@code 2^64 mod n}).
+     * @param n An odd modulus less than {@code 2^63}.
+     * @param nInv {@code -n^-1 mod 2^64}.
+     * @return {@code a^e} in Montgomery form.
+     */
+    static long montgomeryPow(long a, long e, long one, long n, long nInv) {
+        long r = one;
+        while (e != 0) {
+            if ((e & 1L) != 0) {
+                r = montgomeryMultiply(r, a, n, nInv);
+            }
+            a = montgomeryMultiply(a, a, n, nInv);
+            e >>>= 1;
+        }
+        return r;
+    }
+
+    /**
+     * Multiplying by all the prime factors returns the original number. 1 and
+     * the number itself are not included. This is a thin adapter for
+     * {@link #getPrimeFactorisation(long)}.
+     *
      * @param n The number for which the prime factors are returned.
-     * @return The prime factors of {@code n} in ascending order. 
+     * @return The prime factors of {@code n} in ascending order mapped to the
+     * number of times they divide {@code n}. If {@code n} is prime or less
+     * than {@code 2}, the map is empty.
      */
     public static TreeMap<Long, Long> getPrimeFactors(long n) {
         TreeMap<Long, Long> r = new TreeMap<>();
-        long n2 = n;
-        for (long i = 2; i <= n2/2; i++) {
-            if (n2 % i == 0) {
-                Math_Collections.addToCount(r, i, 1L);
-                n2 = n2 / i;
-                i = 2;
-            }
+        long[] f = getPrimeFactorisation(n);
+        if (f.length == 2 && f[1] == 1L) {
+            return r;
         }
-        if (!r.isEmpty()) {
-            Math_Collections.addToCount(r, n2, 1L);
+        for (int i = 0; i < f.length; i += 2) {
+            r.put(f[i], f[i + 1]);
         }
         return r;
     }
+
+    /**
+     * Find the prime factorisation of {@code n} without boxing. Trial division
+     * is done by the cached small primes of {@link Math_Factoriser} up to the
+     * cube root of what remains of {@code n}, after which any composite
+     * cofactor is split using
+     * <a href="https://en.wikipedia.org/wiki/Pollard%27s_rho_algorithm">Pollard's
+     * rho algorithm</a> with Brent's cycle detection and Montgomery
+     * multiplication, and tested using {@link #isPrime(long)}.
+     *
+     * @param n The number to factorise.
+     * @return The prime factors and their exponents interleaved in a compact
+     * array {@code {p0, e0, p1, e1, ...}} with {@code p0 < p1 < ...}. If
+     * {@code n < 2} the array is empty.
+     */
+    public static long[] getPrimeFactorisation(long n) {
+        if (n < 2) {
+            return new long[0];
+        }
+        // A long has at most 15 distinct prime factors.
+        long[] r = new long[32];
+        int size = 0;
+        int tz = Long.numberOfTrailingZeros(n);
+        if (tz > 0) {
+            r[size++] = 2L;
+            r[size++] = tz;
+            n >>>= tz;
+        }
+        int[] tp = Math_Factoriser.getTrialPrimes();
+        for (int i = 1; i < tp.length && n > 1; i++) {
+            long p = tp[i];
+            if (n % p == 0) {
+                int e = 0;
+                do {
+                    n /= p;
+                    e++;
+                } while (n % p == 0);
+                r[size++] = p;
+                r[size++] = e;
+            }
+            if (p * p * p > n) {
+                break;
+            }
+        }
+        if (n > 1) {
+            // The remaining factors are all larger than any found so far.
+            long[] f = new long[64];
+            int k = factoriseCofactor(n, f, 0);
+            Arrays.sort(f, 0, k);
+            for (int i = 0; i < k; i++) {
+                if (size > 0 && r[size - 2] == f[i]) {
+                    r[size - 1]++;
+                } else {
+                    r[size++] = f[i];
+                    r[size++] = 1L;
+                }
+            }
+        }
+        return Arrays.copyOf(r, size);
+    }
+
+    /**
+     * Adds the prime factors of {@code n} to {@code f} (with repetition).
+     *
+     * @param n An odd number to factorise.
+     * @param f The array to add factors to.
+     * @param k The number of factors already in {@code f}.
+     * @return The number of factors in {@code f}.
+     */
+    private static int factoriseCofactor(long n, long[] f, int k) {
+        if (n == 1) {
+            return k;
+        }
+        if (isPrime(n)) {
+            f[k++] = n;
+            return k;
+        }
+        long s = Math.min((long) Math.sqrt((double) n), 3037000499L);
+        while (s * s > n) {
+            s--;
+        }
+        if (s < 3037000499L && (s + 1) * (s + 1) == n) {
+            s++;
+        }
+        if (s * s == n) {
+            k = factoriseCofactor(s, f, k);
+            return factoriseCofactor(s, f, k);
+        }
+        long d = pollardRho(n);
+        k = factoriseCofactor(d, f, k);
+        return factoriseCofactor(n / d, f, k);
+    }
+
+    /**
+     * Find a non-trivial factor of {@code n} using
+     * <a href="https://en.wikipedia.org/wiki/Pollard%27s_rho_algorithm">Pollard's
+     * rho algorithm</a> with Brent's cycle detection.
+     *
+     * @param n An odd composite number that is not a perfect square.
+     * @return A factor of {@code n} greater than {@code 1} and less than
+     * {@code n}.
+     */
+    static long pollardRho(long n) {
+        long nInv = montgomeryInverse(n);
+        for (long c = 1;; c++) {
+            long d = brent(n, nInv, c % n);
+            if (d != 0) {
+                return d;
+            }
+        }
+    }
+
+    /**
+     * Brent's variant of Pollard's rho using the polynomial {@code y^2 + c}
+     * evaluated with Montgomery multiplication.
+     *
+     * @param n An odd composite number.
+     * @param nInv {@code -n^-1 mod 2^64}.
+     * @param c The polynomial constant.
+     * @return A non-trivial factor of {@code n} or {@code 0} if none was
+     * found.
+     */
+    private static long brent(long n, long nInv, long c) {
+        int m = 64;
+        long y = 2 % n;
+        long x = y;
+        long ys = y;
+        long q = 1;
+        long g = 1;
+        for (long r = 1; g == 1 && r <= (1L << 26); r <<= 1) {
+            x = y;
+            for (long i = 0; i < r; i++) {
+                y = rhoStep(y, c, n, nInv);
+            }
+            for (long k = 0; k < r && g == 1; k += m) {
+                ys = y;
+                long lim = Math.min(m, r - k);
+                for (long i = 0; i < lim; i++) {
+                    y = rhoStep(y, c, n, nInv);
+                    q = montgomeryMultiply(q, Math.abs(x - y), n, nInv);
+                }
+                g = gcd(q, n);
+            }
+        }
+        if (g == n) {
+            // Backtrack.
+            do {
+                ys = rhoStep(ys, c, n, nInv);
+                g = gcd(Math.abs(x - ys), n);
+            } while (g == 1);
+        }
+        if (g == 1 || g == n) {
+            return 0L;
+        }
+        return g;
+    }
+
+    /**
+     * @return {@code y^2 + c} in Montgomery form.
+     */
+    private static long rhoStep(long y, long c, long n, long nInv) {
+        long t = montgomeryMultiply(y, y, n, nInv) + c;
+        if (Long.compareUnsigned(t, n) >= 0) {
+            t -= n;
+        }
+        return t;
+    }
+
+    /**
+     * @param a A non-negative number.
+     * @param b A non-negative number.
+     * @return The greatest common divisor of {@code a} and {@code b}.
+     */
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long t = a;
+                a = b;
+                b = t;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
 }
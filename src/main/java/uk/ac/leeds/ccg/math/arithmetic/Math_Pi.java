@@ -0,0 +1,266 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * For calculating <a href="https://en.wikipedia.org/wiki/Pi">Pi</a> to any
+ * precision using the
+ * <a href="https://en.wikipedia.org/wiki/Chudnovsky_algorithm">Chudnovsky
+ * algorithm</a> with binary splitting. Each term of the series adds about 14
+ * digits.
+ *
+ * The sums of the terms calculated so far are kept, so when more precision is
+ * wanted only the additional terms are calculated and these are combined with
+ * those already calculated. Ranges of more than {@link #PARALLEL_TERMS} terms
+ * are split in two and calculated in parallel in a {@link ForkJoinPool}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Pi {
+
+    /**
+     * The number of digits each term of the series adds.
+     */
+    public static final double DIGITS_PER_TERM = 14.181647462725477;
+
+    /**
+     * The number of extra decimal places calculated.
+     */
+    private static final int GUARD_DIGITS = 10;
+
+    /**
+     * The smallest number of terms split between tasks.
+     */
+    public static final int PARALLEL_TERMS = 512;
+
+    /**
+     * {@code 13591409}
+     */
+    private static final BigInteger A = BigInteger.valueOf(13591409L);
+
+    /**
+     * {@code 545140134}
+     */
+    private static final BigInteger B = BigInteger.valueOf(545140134L);
+
+    /**
+     * {@code 640320^3/24}
+     */
+    private static final BigInteger C3_OVER_24
+            = BigInteger.valueOf(10939058860032000L);
+
+    /**
+     * The pool used for parallel calculation.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The number of terms {@code n} summed so far.
+     */
+    private long n;
+
+    /**
+     * {@code P(1, n)}.
+     */
+    private BigInteger p;
+
+    /**
+     * {@code Q(1, n)}.
+     */
+    private BigInteger q;
+
+    /**
+     * {@code R(1, n)}.
+     */
+    private BigInteger r;
+
+    /**
+     * Pi to {@link #dp} decimal places (and {@link #GUARD_DIGITS} more).
+     */
+    private volatile BigDecimal pi;
+
+    /**
+     * The number of decimal places {@link #pi} is accurate to.
+     */
+    private volatile int dp;
+
+    /**
+     * Create a new instance using {@link ForkJoinPool#commonPool()}.
+     */
+    public Math_Pi() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param pool The pool used for parallel calculation.
+     */
+    public Math_Pi(ForkJoinPool pool) {
+        this.pool = pool;
+        n = 1;
+        p = BigInteger.ONE;
+        q = BigInteger.ONE;
+        r = BigInteger.ZERO;
+        dp = -1;
+    }
+
+    /**
+     * @param oom The order of magnitude to round to.
+     * @param rm The rounding mode.
+     * @return Pi rounded to {@code oom} using {@code rm}.
+     */
+    public BigDecimal getPi(int oom, RoundingMode rm) {
+        return Math_BigDecimal.round(getPi(oom), oom, rm);
+    }
+
+    /**
+     * @param oom The order of magnitude.
+     * @return Pi accurate to at least {@link #GUARD_DIGITS} orders of
+     * magnitude less than {@code oom}. This is not rounded to {@code oom}.
+     */
+    public BigDecimal getPi(int oom) {
+        int d = Math.max(0, -oom);
+        if (d > dp) {
+            synchronized (this) {
+                if (d > dp) {
+                    calculate(d);
+                }
+            }
+        }
+        return pi;
+    }
+
+    /**
+     * @return The number of decimal places Pi has been calculated to.
+     */
+    public int getDecimalPlaces() {
+        return dp;
+    }
+
+    /**
+     * Calculates {@link #pi} to at least {@code d} decimal places. The
+     * precision calculated is at least double the previous precision, so that
+     * successive small increases cost no more than a few calculations.
+     *
+     * @param d The number of decimal places.
+     */
+    private void calculate(int d) {
+        if (dp > 0) {
+            d = (int) Math.max(d, Math.min(Integer.MAX_VALUE / 2L, 2L * dp));
+        }
+        int digits = d + GUARD_DIGITS + 1;
+        long terms = (long) (digits / DIGITS_PER_TERM) + 2;
+        if (terms > n) {
+            BigInteger[] s = split(n, terms);
+            r = s[2].multiply(p).add(r.multiply(s[1]));
+            p = p.multiply(s[0]);
+            q = q.multiply(s[1]);
+            n = terms;
+        }
+        MathContext mc = new MathContext(digits + 1);
+        BigDecimal sqrt = BigDecimal.valueOf(10005L).sqrt(mc);
+        BigDecimal num = new BigDecimal(q.multiply(BigInteger.valueOf(426880L)))
+                .multiply(sqrt, mc);
+        BigDecimal den = new BigDecimal(A.multiply(q).add(r));
+        pi = num.divide(den, mc);
+        dp = d;
+    }
+
+    /**
+     * @param a The first term.
+     * @param b One more than the last term.
+     * @return {@code {P(a, b), Q(a, b), R(a, b)}}
+     */
+    private BigInteger[] split(long a, long b) {
+        if (b - a > PARALLEL_TERMS && pool.getParallelism() > 1) {
+            return pool.invoke(new SplitTask(a, b));
+        }
+        return splitSequential(a, b);
+    }
+
+    /**
+     * @param a The first term.
+     * @param b One more than the last term.
+     * @return {@code {P(a, b), Q(a, b), R(a, b)}}
+     */
+    static BigInteger[] splitSequential(long a, long b) {
+        if (b - a == 1) {
+            BigInteger ba = BigInteger.valueOf(a);
+            BigInteger pab = BigInteger.valueOf(6 * a - 5)
+                    .multiply(BigInteger.valueOf(2 * a - 1))
+                    .multiply(BigInteger.valueOf(6 * a - 1)).negate();
+            BigInteger qab = C3_OVER_24.multiply(ba.pow(3));
+            BigInteger rab = pab.multiply(B.multiply(ba).add(A));
+            return new BigInteger[]{pab, qab, rab};
+        }
+        long m = (a + b) >>> 1;
+        return combine(splitSequential(a, m), splitSequential(m, b));
+    }
+
+    /**
+     * @param l {@code {P(a, m), Q(a, m), R(a, m)}}
+     * @param h {@code {P(m, b), Q(m, b), R(m, b)}}
+     * @return {@code {P(a, b), Q(a, b), R(a, b)}}
+     */
+    static BigInteger[] combine(BigInteger[] l, BigInteger[] h) {
+        return new BigInteger[]{l[0].multiply(h[0]), l[1].multiply(h[1]),
+            h[1].multiply(l[2]).add(l[0].multiply(h[2]))};
+    }
+
+    /**
+     * For splitting the range of terms between tasks.
+     */
+    static class SplitTask extends RecursiveTask<BigInteger[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The first term.
+         */
+        final long a;
+
+        /**
+         * One more than the last term.
+         */
+        final long b;
+
+        SplitTask(long a, long b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        protected BigInteger[] compute() {
+            if (b - a <= PARALLEL_TERMS) {
+                return splitSequential(a, b);
+            }
+            long m = (a + b) >>> 1;
+            SplitTask h = new SplitTask(m, b);
+            h.fork();
+            BigInteger[] l = new SplitTask(a, m).compute();
+            return combine(l, h.join());
+        }
+    }
+}
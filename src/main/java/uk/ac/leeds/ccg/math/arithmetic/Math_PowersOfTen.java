@@ -0,0 +1,298 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * For getting powers of ten. Those that fit in a {@code long} are in a table
+ * and {@link BigInteger} powers up to {@link #MAX_CACHED} are cached in a
+ * table which is grown as needed. Larger powers are multiplied together from
+ * the table and a table of repeated squares of {@code 10^MAX_CACHED}. The
+ * {@link BigDecimal} powers {@code 10^n} for {@code |n| <= MAX_CACHED} are
+ * also in a table. The tables are shared and safe to use from multiple
+ * threads. The numbers of lookups answered from and not from the tables are
+ * counted and can be got from {@link #getHits()} and {@link #getMisses()}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_PowersOfTen {
+
+    /**
+     * The largest exponent of a power of ten that fits in a {@code long}.
+     */
+    public static final int MAX_LONG_EXPONENT = 18;
+
+    /**
+     * {@code log2(MAX_CACHED)}
+     */
+    private static final int LOG2_MAX_CACHED = 10;
+
+    /**
+     * The largest exponent of a cached {@link BigInteger} power of ten.
+     */
+    public static final int MAX_CACHED = 1 << LOG2_MAX_CACHED;
+
+    /**
+     * The largest index of a cached square: {@code 10^(MAX_CACHED 2^i)}.
+     */
+    public static final int MAX_SQUARE_INDEX = 10;
+
+    /**
+     * {@code 10^i} for {@code i} in {@code [0, MAX_LONG_EXPONENT]}.
+     */
+    private static final long[] LONGS = new long[MAX_LONG_EXPONENT + 1];
+
+    static {
+        LONGS[0] = 1L;
+        for (int i = 1; i <= MAX_LONG_EXPONENT; i++) {
+            LONGS[i] = LONGS[i - 1] * 10L;
+        }
+    }
+
+    /**
+     * The cached {@link BigInteger} powers of ten. This is replaced by a
+     * longer copy when it is grown.
+     */
+    private static volatile BigInteger[] bigIntegers = new BigInteger[]{
+        BigInteger.ONE, BigInteger.TEN};
+
+    /**
+     * The cached squares {@code 10^(MAX_CACHED 2^i)}. This is replaced by a
+     * longer copy when it is grown.
+     */
+    private static volatile BigInteger[] squares = new BigInteger[0];
+
+    /**
+     * {@code 10^(i - MAX_CACHED)} for {@code i} in
+     * {@code [0, 2 MAX_CACHED]}.
+     */
+    private static final BigDecimal[] BIG_DECIMALS
+            = new BigDecimal[2 * MAX_CACHED + 1];
+
+    static {
+        for (int i = 0; i < BIG_DECIMALS.length; i++) {
+            BIG_DECIMALS[i] = BigDecimal.ONE.scaleByPowerOfTen(i - MAX_CACHED);
+        }
+    }
+
+    /**
+     * The number of lookups answered from the tables.
+     */
+    private static final LongAdder HITS = new LongAdder();
+
+    /**
+     * The number of lookups not answered from the tables.
+     */
+    private static final LongAdder MISSES = new LongAdder();
+
+    private Math_PowersOfTen() {
+    }
+
+    /**
+     * @param n The exponent in {@code [0, MAX_LONG_EXPONENT]}.
+     * @return {@code 10^n}
+     */
+    public static long longValue(int n) {
+        return LONGS[n];
+    }
+
+    /**
+     * @param n The exponent which must not be negative.
+     * @return {@code 10^n}
+     * @throws ArithmeticException If {@code n} is negative.
+     */
+    public static BigInteger bigInteger(int n) {
+        if (n < 0) {
+            throw new ArithmeticException("Negative exponent");
+        }
+        BigInteger[] t = bigIntegers;
+        if (n < t.length) {
+            HITS.increment();
+            return t[n];
+        }
+        MISSES.increment();
+        if (n > MAX_CACHED) {
+            return compute(n);
+        }
+        return grow(n)[n];
+    }
+
+    /**
+     * @param n The exponent.
+     * @return {@code 10^n} as a {@link BigDecimal} with an unscaled value of
+     * {@code 1} and a scale of {@code -n}.
+     */
+    public static BigDecimal bigDecimal(int n) {
+        if (-MAX_CACHED <= n && n <= MAX_CACHED) {
+            HITS.increment();
+            return BIG_DECIMALS[n + MAX_CACHED];
+        }
+        MISSES.increment();
+        return BigDecimal.ONE.scaleByPowerOfTen(n);
+    }
+
+    /**
+     * Calculates {@code 10^n} for {@code n > MAX_CACHED}. If
+     * {@code n = a + MAX_CACHED b} with {@code a < MAX_CACHED}, then this is
+     * {@code 10^a} multiplied by {@code 10^(MAX_CACHED 2^i)} for each bit
+     * {@code i} set in {@code b}.
+     *
+     * @param n The exponent.
+     * @return {@code 10^n}
+     */
+    private static BigInteger compute(int n) {
+        int a = n & (MAX_CACHED - 1);
+        BigInteger[] t = bigIntegers;
+        BigInteger r = a < t.length ? t[a] : grow(a)[a];
+        int b = n >>> LOG2_MAX_CACHED;
+        for (int i = 0; b != 0; i++, b >>>= 1) {
+            if ((b & 1) == 1) {
+                r = r.multiply(square(i));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @param i The index.
+     * @return {@code 10^(MAX_CACHED 2^i)}
+     */
+    private static BigInteger square(int i) {
+        if (i > MAX_SQUARE_INDEX) {
+            return square(MAX_SQUARE_INDEX).pow(1 << (i - MAX_SQUARE_INDEX));
+        }
+        BigInteger[] t = squares;
+        if (i < t.length) {
+            return t[i];
+        }
+        return growSquares(i)[i];
+    }
+
+    /**
+     * Grows the table of squares to include {@code 10^(MAX_CACHED 2^i)}.
+     *
+     * @param i The index.
+     * @return The table of squares.
+     */
+    private static synchronized BigInteger[] growSquares(int i) {
+        BigInteger[] t = squares;
+        if (i < t.length) {
+            return t;
+        }
+        int l = t.length;
+        t = Arrays.copyOf(t, i + 1);
+        for (int j = l; j <= i; j++) {
+            t[j] = j == 0 ? grow(MAX_CACHED)[MAX_CACHED]
+                    : t[j - 1].multiply(t[j - 1]);
+        }
+        squares = t;
+        return t;
+    }
+
+    /**
+     * Grows the table to include {@code 10^n}.
+     *
+     * @param n The exponent.
+     * @return The table.
+     */
+    private static synchronized BigInteger[] grow(int n) {
+        BigInteger[] t = bigIntegers;
+        if (n < t.length) {
+            return t;
+        }
+        int l = t.length;
+        t = Arrays.copyOf(t, Math.min(MAX_CACHED + 1, Math.max(n + 1, 2 * l)));
+        for (int i = l; i < t.length; i++) {
+            t[i] = t[i - 1].multiply(BigInteger.TEN);
+        }
+        bigIntegers = t;
+        return t;
+    }
+
+    /**
+     * @return The number of {@link BigInteger} powers of ten in the table,
+     * including {@code 10^0}.
+     */
+    public static int getBigIntegerTableSize() {
+        return bigIntegers.length;
+    }
+
+    /**
+     * @return The number of squares {@code 10^(MAX_CACHED 2^i)} in the table.
+     */
+    public static int getSquareTableSize() {
+        return squares.length;
+    }
+
+    /**
+     * @return The number of {@link BigInteger} and {@link BigDecimal} lookups
+     * answered from the tables since the last {@link #resetMetrics()}.
+     */
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return The number of {@link BigInteger} and {@link BigDecimal} lookups
+     * that were calculated or grew the tables since the last
+     * {@link #resetMetrics()}.
+     */
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * @return The proportion of lookups that were hits, or {@code 0} if there
+     * were none.
+     */
+    public static double getHitRate() {
+        long h = HITS.sum();
+        long t = h + MISSES.sum();
+        return t == 0L ? 0d : (double) h / (double) t;
+    }
+
+    /**
+     * Resets the hit and miss counts to zero.
+     */
+    public static void resetMetrics() {
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    /**
+     * @param x The number.
+     * @return The number of decimal digits of {@code |x|} less one, which is
+     * {@code floor(log10(|x|))} for {@code x != 0} and {@code 0} for
+     * {@code x = 0}.
+     */
+    public static int log10(long x) {
+        if (x == Long.MIN_VALUE) {
+            return MAX_LONG_EXPONENT;
+        }
+        if (x == 0L) {
+            return 0;
+        }
+        x = Math.abs(x);
+        // floor(log2(x) * log10(2)) using 1233/4096 for log10(2).
+        int r = ((63 - Long.numberOfLeadingZeros(x)) * 1233) >>> 12;
+        return (r < MAX_LONG_EXPONENT && x >= LONGS[r + 1]) ? r + 1 : r;
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * For calculating
+ * <a href="https://en.wikipedia.org/wiki/Nth_root">n-th roots</a> to
+ * arbitrary precision.
+ *
+ * If {@code x} is an exact n-th power of a decimal this is detected using
+ * integer arithmetic and the root is returned exactly. Otherwise the root is
+ * irrational and it is calculated using
+ * <a href="https://en.wikipedia.org/wiki/Nth_root_algorithm">Newton's
+ * method</a> {@code y = y - (y - x/y^(n-1))/n} starting from a double
+ * precision estimate. Each iteration about doubles the number of correct
+ * digits, so the working precision is doubled each iteration and only the
+ * last iteration is done at the full precision.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Root {
+
+    /**
+     * The largest exponent for {@link BigDecimal#pow(int, MathContext)}.
+     */
+    private static final int MAX_POW = 999999999;
+
+    /**
+     * {@code ln(10)}
+     */
+    private static final double LN10 = Math.log(10d);
+
+    private Math_Root() {
+    }
+
+    /**
+     * Calculates and returns the n-th root of {@code x} rounded to
+     * {@code oom}.
+     *
+     * @param x The number to calculate the n-th root of.
+     * @param n The root (2 is for a square root, 3 is for a cube root etc.).
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return The n-th root of {@code x} rounded to {@code oom} using
+     * {@code rm}.
+     * @throws IllegalArgumentException If {@code x < 0} or {@code n < 1}.
+     */
+    public static BigDecimal root(BigDecimal x, int n, int oom,
+            RoundingMode rm) {
+        check(x, n);
+        if (x.signum() == 0 || n == 1) {
+            return Math_BigDecimal.round(x, oom, rm);
+        }
+        BigDecimal r = rootExact(x, n);
+        if (r != null) {
+            return Math_BigDecimal.round(r, oom, rm);
+        }
+        // The root is irrational.
+        return Math_BigDecimal.roundIrrational(dp -> root(x, n, dp), oom, rm);
+    }
+
+    /**
+     * Calculates and returns the square root of {@code x} rounded to
+     * {@code oom}.
+     *
+     * @param x The number to calculate the square root of.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return The square root of {@code x} rounded to {@code oom} using
+     * {@code rm}.
+     * @throws IllegalArgumentException If {@code x < 0}.
+     */
+    public static BigDecimal sqrt(BigDecimal x, int oom, RoundingMode rm) {
+        return root(x, 2, oom, rm);
+    }
+
+    /**
+     * Calculates and returns the n-th root of {@code x} if it can be
+     * represented exactly as a BigDecimal. If {@code x = u 10^-s} where
+     * {@code u} is not divisible by {@code 10}, then this is only the case if
+     * {@code s} is a multiple of {@code n} and {@code u} is an n-th power of
+     * an integer. This is tested with {@link BigInteger#sqrt()} or an integer
+     * n-th root.
+     *
+     * @param x The number to calculate the n-th root of.
+     * @param n The root.
+     * @return The n-th root of {@code x} or {@code null} if it is not exact.
+     * @throws IllegalArgumentException If {@code x < 0} or {@code n < 1}.
+     */
+    public static BigDecimal rootExact(BigDecimal x, int n) {
+        check(x, n);
+        if (x.signum() == 0 || n == 1) {
+            return x;
+        }
+        x = x.stripTrailingZeros();
+        int s = x.scale();
+        if (s % n != 0) {
+            return null;
+        }
+        BigInteger u = x.unscaledValue();
+        if (!u.equals(BigInteger.ONE) && u.bitLength() <= n) {
+            // 2^n > u, so u is not an n-th power of an integer > 1.
+            return null;
+        }
+        BigInteger r = rootFloor(u, n);
+        if (r.pow(n).equals(u)) {
+            return new BigDecimal(r, s / n);
+        }
+        return null;
+    }
+
+    /**
+     * Calculates and returns the n-th root of {@code x}.
+     *
+     * @param x The number to calculate the n-th root of.
+     * @param n The root.
+     * @param dp The number of decimal places.
+     * @return The n-th root of {@code x} accurate to at least {@code dp - 1}
+     * decimal places. This is not rounded.
+     * @throws IllegalArgumentException If {@code x < 0} or {@code n < 1}.
+     */
+    public static BigDecimal root(BigDecimal x, int n, int dp) {
+        check(x, n);
+        if (x.signum() == 0 || n == 1) {
+            return x;
+        }
+        double[] ln = Math_Ln.lnDouble(x);
+        double log10r = ln[0] / LN10 / n;
+        int oomr = (int) Math.floor(log10r);
+        /*
+         * If the relative error of y is d then after an iteration it is about
+         * (n - 1) d^2 / 2 which is less than 10^(c - 2 log10(1/d)). The result
+         * has a relative error of less than 10^(c-p).
+         */
+        int c = Integer.toString(n).length() + 1;
+        int p = Math.max(dp + oomr + 1, 1) + c + 2;
+        MathContext mc = new MathContext(p);
+        if (n == 2) {
+            return x.sqrt(mc);
+        }
+        if (n - 1 > MAX_POW) {
+            // n-th root of x = e^(ln(x)/n)
+            BigDecimal z = Math_Ln.ln(x, p + c).divide(
+                    BigDecimal.valueOf(n), p + c, RoundingMode.HALF_EVEN);
+            return Math_Exp.exp(z, p);
+        }
+        // A double estimate with about p0 correct digits.
+        double f = log10r - oomr;
+        BigDecimal y = new BigDecimal(Math.pow(10d, f)).scaleByPowerOfTen(oomr);
+        int p0 = Math.max(1, (int) Math.floor(-Math.log10(ln[1] / n + 0x1p-50))
+                - 1);
+        // The working precision of each iteration.
+        List<Integer> ps = new ArrayList<>();
+        while (p > p0 && p > 2 * c + 2) {
+            ps.add(p);
+            p = p / 2 + c + 1;
+        }
+        if (ps.isEmpty()) {
+            ps.add(p);
+        }
+        BigDecimal nbd = BigDecimal.valueOf(n);
+        for (int i = ps.size() - 1; i >= 0; i--) {
+            p = ps.get(i);
+            mc = new MathContext(p);
+            while (true) {
+                BigDecimal t = y.pow(n - 1, mc);
+                BigDecimal d = y.subtract(x.divide(t, mc)).divide(nbd, mc);
+                y = y.subtract(d, mc);
+                /*
+                 * If d is less than y 10^(-p/2) then y now has a relative
+                 * error of less than 10^(c-p), otherwise iterate again at this
+                 * precision. This is usually only needed if the estimate is
+                 * poor.
+                 */
+                if (d.signum() == 0 || Math_BigDecimal
+                        .getOrderOfMagnitudeOfMostSignificantDigit(y)
+                        - Math_BigDecimal
+                                .getOrderOfMagnitudeOfMostSignificantDigit(d)
+                        >= (p + 2) / 2) {
+                    break;
+                }
+            }
+        }
+        return y;
+    }
+
+    /**
+     * Calculates and returns the largest integer whose n-th power is not
+     * greater than {@code u}.
+     *
+     * @param u A positive integer.
+     * @param n The root.
+     * @return The floor of the n-th root of {@code u}.
+     */
+    static BigInteger rootFloor(BigInteger u, int n) {
+        if (n == 2) {
+            return u.sqrt();
+        }
+        int dp = 2;
+        BigInteger r = root(new BigDecimal(u), n, dp).setScale(0,
+                RoundingMode.FLOOR).toBigInteger();
+        // Correct for the error of at most 10^(1-dp).
+        if (r.add(BigInteger.ONE).pow(n).compareTo(u) <= 0) {
+            r = r.add(BigInteger.ONE);
+        } else if (r.signum() == 1 && r.pow(n).compareTo(u) > 0) {
+            r = r.subtract(BigInteger.ONE);
+        }
+        return r;
+    }
+
+    /**
+     * @param x The number to check is not negative.
+     * @param n The root to check is positive.
+     * @throws IllegalArgumentException If {@code x < 0} or {@code n < 1}.
+     */
+    private static void check(BigDecimal x, int n) {
+        if (x.signum() == -1) {
+            throw new IllegalArgumentException("x < 0");
+        }
+        if (n < 1) {
+            throw new IllegalArgumentException("n < 1");
+        }
+    }
+}
@@ -0,0 +1,394 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * For calculating
+ * <a href="https://en.wikipedia.org/wiki/Trigonometric_functions">trigonometric
+ * functions</a> and their inverses to arbitrary precision.
+ *
+ * For sine and cosine the argument is reduced modulo {@code Pi/2} using Pi
+ * from {@link Math_Constants}, halved {@code h} times and the Taylor series
+ * summed with each term calculated from the previous one as
+ * {@code t_k = t_(k-1) x/k}. The angle is then doubled {@code h} times using
+ * {@code sin(2a) = 2 sin(a)(1 - v(a))} and {@code v(2a) = 2 sin(a)^2} where
+ * {@code v(a) = 1 - cos(a)}, which keeps the relative precision of small
+ * results. The arctangent is calculated by Newton's method using the sine
+ * and cosine, and the tangent, arcsine and arccosine are derived from these.
+ *
+ * All calculations are done in fixed point at a number of decimal places
+ * derived from the precision wanted. The results are correctly rounded by
+ * {@link Math_BigDecimal#roundIrrational(java.util.function.IntFunction, int,
+ * RoundingMode)}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Trig {
+
+    /**
+     * {@code log10(2)}
+     */
+    private static final double LOG10_2 = Math.log10(2d);
+
+    /**
+     * {@code 0.7} which is a little less than {@code Pi/4}.
+     */
+    private static final BigDecimal P7 = new BigDecimal("0.7");
+
+    private Math_Trig() {
+    }
+
+    /**
+     * Calculates and returns the sine of {@code x} rounded to {@code oom}.
+     *
+     * @param x The angle in radians.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code sin(x)} rounded to {@code oom} using {@code rm}.
+     */
+    public static BigDecimal sin(BigDecimal x, int oom, RoundingMode rm) {
+        if (x.signum() == 0) {
+            return Math_BigDecimal.round(BigDecimal.ZERO, oom, rm);
+        }
+        return Math_BigDecimal.roundIrrational(dp -> sinCos(x, dp)[0], oom, rm);
+    }
+
+    /**
+     * Calculates and returns the cosine of {@code x} rounded to {@code oom}.
+     *
+     * @param x The angle in radians.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code cos(x)} rounded to {@code oom} using {@code rm}.
+     */
+    public static BigDecimal cos(BigDecimal x, int oom, RoundingMode rm) {
+        if (x.signum() == 0) {
+            return Math_BigDecimal.round(BigDecimal.ONE, oom, rm);
+        }
+        return Math_BigDecimal.roundIrrational(dp -> sinCos(x, dp)[1], oom, rm);
+    }
+
+    /**
+     * Calculates and returns the tangent of {@code x} rounded to {@code oom}.
+     *
+     * @param x The angle in radians.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code tan(x)} rounded to {@code oom} using {@code rm}.
+     */
+    public static BigDecimal tan(BigDecimal x, int oom, RoundingMode rm) {
+        if (x.signum() == 0) {
+            return Math_BigDecimal.round(BigDecimal.ZERO, oom, rm);
+        }
+        return Math_BigDecimal.roundIrrational(dp -> tan(x, dp), oom, rm);
+    }
+
+    /**
+     * Calculates and returns the arctangent of {@code x} rounded to
+     * {@code oom}.
+     *
+     * @param x The value.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code atan(x)} in radians rounded to {@code oom} using
+     * {@code rm}.
+     */
+    public static BigDecimal atan(BigDecimal x, int oom, RoundingMode rm) {
+        if (x.signum() == 0) {
+            return Math_BigDecimal.round(BigDecimal.ZERO, oom, rm);
+        }
+        return Math_BigDecimal.roundIrrational(dp -> atan(x, dp), oom, rm);
+    }
+
+    /**
+     * Calculates and returns the arcsine of {@code x} rounded to {@code oom}.
+     *
+     * @param x The value.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code asin(x)} in radians rounded to {@code oom} using
+     * {@code rm}.
+     * @throws IllegalArgumentException If {@code |x| > 1}.
+     */
+    public static BigDecimal asin(BigDecimal x, int oom, RoundingMode rm) {
+        checkAbsNotGreaterThanOne(x);
+        if (x.signum() == 0) {
+            return Math_BigDecimal.round(BigDecimal.ZERO, oom, rm);
+        }
+        return Math_BigDecimal.roundIrrational(dp -> asin(x, dp), oom, rm);
+    }
+
+    /**
+     * Calculates and returns the arccosine of {@code x} rounded to
+     * {@code oom}.
+     *
+     * @param x The value.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> to round to.
+     * @param rm The {@link RoundingMode} used to round.
+     * @return {@code acos(x)} in radians rounded to {@code oom} using
+     * {@code rm}.
+     * @throws IllegalArgumentException If {@code |x| > 1}.
+     */
+    public static BigDecimal acos(BigDecimal x, int oom, RoundingMode rm) {
+        checkAbsNotGreaterThanOne(x);
+        if (x.compareTo(BigDecimal.ONE) == 0) {
+            return Math_BigDecimal.round(BigDecimal.ZERO, oom, rm);
+        }
+        return Math_BigDecimal.roundIrrational(dp -> acos(x, dp), oom, rm);
+    }
+
+    /**
+     * Calculates the sine and cosine of {@code x}.
+     *
+     * @param x The angle in radians.
+     * @param dp The number of decimal places.
+     * @return {@code {sin(x), cos(x)}} each accurate to at least
+     * {@code dp - 1} decimal places. These are not rounded.
+     */
+    public static BigDecimal[] sinCos(BigDecimal x, int dp) {
+        int d = Math.max(dp, 1) + 2;
+        /*
+         * Reduce x to r = x - n Pi/2 with |r| <= Pi/4. Pi is needed to the
+         * number of digits in the integer part of x more decimal places.
+         */
+        BigDecimal r = x;
+        int q = 0;
+        if (x.abs().compareTo(P7) > 0) {
+            int ix = Math.max(0, Math_BigDecimal
+                    .getOrderOfMagnitudeOfMostSignificantDigit(x) + 1);
+            int s = d + ix + 2;
+            BigDecimal halfPi = Math_Constants.PI.getValue(-s - 2)
+                    .divide(Math_BigDecimal.TWO).setScale(s + 1,
+                    RoundingMode.DOWN);
+            BigInteger n = x.divide(halfPi, 0, RoundingMode.HALF_EVEN)
+                    .toBigInteger();
+            r = x.subtract(halfPi.multiply(new BigDecimal(n)));
+            q = n.and(BigInteger.valueOf(3)).intValue();
+        }
+        // Halve r h times so that the series converges quickly.
+        int h = (int) Math.sqrt(d);
+        if (r.signum() != 0) {
+            int oomr = Math_BigDecimal.getOrderOfMagnitudeOfMostSignificantDigit(r);
+            h = Math.max(0, h + (int) (oomr / LOG10_2));
+        }
+        int w = d + (int) Math.ceil(2 * h * LOG10_2) + 3;
+        w += Integer.toString(w).length();
+        BigDecimal y = r.divide(BigDecimal.valueOf(2).pow(h))
+                .setScale(w, RoundingMode.HALF_EVEN);
+        // sin(y) = y - y^3/3! + ... and v(y) = 1 - cos(y) = y^2/2! - ...
+        BigDecimal sin = y;
+        BigDecimal v = BigDecimal.ZERO;
+        BigDecimal t = y;
+        for (int k = 2; t.signum() != 0; k++) {
+            t = t.multiply(y).divide(BigDecimal.valueOf(k), w,
+                    RoundingMode.HALF_EVEN);
+            switch (k % 4) {
+                case 0 ->
+                    v = v.subtract(t);
+                case 1 ->
+                    sin = sin.add(t);
+                case 2 ->
+                    v = v.add(t);
+                default ->
+                    sin = sin.subtract(t);
+            }
+        }
+        // Double the angle h times.
+        for (int i = 0; i < h; i++) {
+            BigDecimal s2 = sin.multiply(BigDecimal.ONE.subtract(v))
+                    .multiply(Math_BigDecimal.TWO)
+                    .setScale(w, RoundingMode.HALF_EVEN);
+            v = sin.multiply(sin).multiply(Math_BigDecimal.TWO)
+                    .setScale(w, RoundingMode.HALF_EVEN);
+            sin = s2;
+        }
+        BigDecimal cos = BigDecimal.ONE.subtract(v);
+        return switch (q) {
+            case 0 ->
+                new BigDecimal[]{sin, cos};
+            case 1 ->
+                new BigDecimal[]{cos, sin.negate()};
+            case 2 ->
+                new BigDecimal[]{sin.negate(), cos.negate()};
+            default ->
+                new BigDecimal[]{cos.negate(), sin};
+        };
+    }
+
+    /**
+     * Calculates the tangent of {@code x} as {@code sin(x)/cos(x)}. The
+     * precision of the sine and cosine is increased until the error of the
+     * quotient is small enough.
+     *
+     * @param x The angle in radians.
+     * @param dp The number of decimal places.
+     * @return {@code tan(x)} accurate to at least {@code dp - 1} decimal
+     * places. This is not rounded.
+     */
+    public static BigDecimal tan(BigDecimal x, int dp) {
+        int d = Math.max(dp, 1) + 5;
+        while (true) {
+            BigDecimal[] sc = sinCos(x, d);
+            BigDecimal c = sc[1];
+            BigDecimal e = Math_PowersOfTen.bigDecimal(1 - d);
+            if (c.abs().compareTo(e.multiply(BigDecimal.TEN)) > 0) {
+                /*
+                 * The error is at most e(1 + |tan(x)|)/(|cos(x)| - e) where
+                 * |cos(x)| >= 10^oomc and |tan(x)| < 10^(oomt + 1).
+                 */
+                int oomc = Math_BigDecimal
+                        .getOrderOfMagnitudeOfMostSignificantDigit(c);
+                BigDecimal t = sc[0].divide(c, MathContext.DECIMAL64);
+                int oomt = t.signum() == 0 ? 0 : Math_BigDecimal
+                        .getOrderOfMagnitudeOfMostSignificantDigit(t);
+                int d2 = dp + 3 + Math.max(0, oomt + 1) - oomc;
+                if (d2 <= d) {
+                    return sc[0].divide(c, d + 1, RoundingMode.HALF_EVEN);
+                }
+                d = d2;
+            } else {
+                d *= 2;
+            }
+        }
+    }
+
+    /**
+     * Calculates the arctangent of {@code x}. For {@code |x| > 1} this uses
+     * {@code atan(x) = Pi/2 - atan(1/x)}. For {@code |x| <= 1} the arctangent
+     * {@code y} of {@code z = |x|} is calculated in double precision and then
+     * refined using Newton's method {@code y = y - cos(y)(sin(y) - z cos(y))}
+     * with the precision about doubling each iteration.
+     *
+     * @param x The value.
+     * @param dp The number of decimal places.
+     * @return {@code atan(x)} in radians accurate to at least {@code dp - 1}
+     * decimal places. This is not rounded.
+     */
+    public static BigDecimal atan(BigDecimal x, int dp) {
+        if (x.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        int d = Math.max(dp, 1) + 3;
+        BigDecimal ax = x.abs();
+        boolean inverse = ax.compareTo(BigDecimal.ONE) > 0;
+        BigDecimal z = inverse ? BigDecimal.ONE.divide(ax, d + 2,
+                RoundingMode.HALF_EVEN) : ax;
+        BigDecimal y = new BigDecimal(Math.atan(z.doubleValue()));
+        // The precisions from the last to the first iteration.
+        List<Integer> ps = new ArrayList<>();
+        for (int p = d; p > 14; p = p / 2 + 2) {
+            ps.add(p);
+        }
+        for (int i = ps.size() - 1; i >= 0; i--) {
+            int p = ps.get(i);
+            y = y.setScale(p + 2, RoundingMode.HALF_EVEN);
+            BigDecimal[] sc = sinCos(y, p + 2);
+            y = y.subtract(sc[1].multiply(sc[0].subtract(z.multiply(sc[1]))))
+                    .setScale(p + 2, RoundingMode.HALF_EVEN);
+        }
+        BigDecimal r = inverse ? getHalfPi(d + 2).subtract(y) : y;
+        return x.signum() == -1 ? r.negate() : r;
+    }
+
+    /**
+     * Calculates the arcsine of {@code x} using
+     * {@code asin(x) = atan(x/sqrt(1 - x^2))} for {@code |x| <= 0.7} and
+     * {@code asin(x) = Pi/2 - atan(sqrt(1 - x^2)/x)} otherwise.
+     *
+     * @param x The value.
+     * @param dp The number of decimal places.
+     * @return {@code asin(x)} in radians accurate to at least {@code dp - 1}
+     * decimal places. This is not rounded.
+     * @throws IllegalArgumentException If {@code |x| > 1}.
+     */
+    public static BigDecimal asin(BigDecimal x, int dp) {
+        checkAbsNotGreaterThanOne(x);
+        if (x.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        int d = Math.max(dp, 1) + 2;
+        BigDecimal ax = x.abs();
+        BigDecimal r;
+        if (ax.compareTo(BigDecimal.ONE) == 0) {
+            r = getHalfPi(d);
+        } else {
+            int w = d + 3;
+            BigDecimal sq = BigDecimal.ONE.subtract(ax.multiply(ax)).sqrt(
+                    new MathContext(w + 2));
+            if (ax.compareTo(P7) <= 0) {
+                r = atan(ax.divide(sq, w, RoundingMode.HALF_EVEN), d + 1);
+            } else {
+                r = getHalfPi(d + 1).subtract(atan(sq.divide(ax, w,
+                        RoundingMode.HALF_EVEN), d + 1));
+            }
+        }
+        return x.signum() == -1 ? r.negate() : r;
+    }
+
+    /**
+     * Calculates the arccosine of {@code x} using
+     * {@code acos(x) = Pi/2 - asin(x)}.
+     *
+     * @param x The value.
+     * @param dp The number of decimal places.
+     * @return {@code acos(x)} in radians accurate to at least {@code dp - 1}
+     * decimal places. This is not rounded.
+     * @throws IllegalArgumentException If {@code |x| > 1}.
+     */
+    public static BigDecimal acos(BigDecimal x, int dp) {
+        int d = Math.max(dp, 1) + 1;
+        return getHalfPi(d).subtract(asin(x, d));
+    }
+
+    /**
+     * @param dp The number of decimal places.
+     * @return {@code Pi/2} truncated to {@code dp} decimal places.
+     */
+    private static BigDecimal getHalfPi(int dp) {
+        return Math_Constants.PI.getValue(-dp - 1).divide(Math_BigDecimal.TWO)
+                .setScale(dp, RoundingMode.DOWN);
+    }
+
+    /**
+     * @param x The value to check.
+     * @throws IllegalArgumentException If {@code |x| > 1}.
+     */
+    private static void checkAbsNotGreaterThanOne(BigDecimal x) {
+        if (x.abs().compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("|x| > 1");
+        }
+    }
+}
@@ -31,22 +31,6 @@ public class Math_AngleBigRational {
      */
     private final Math_BigDecimal bd;
 
-    /**
-     * For storing pi at the given order of magnitude and for the given
-     * RoundingMode.
-     */
-    private BigRational pi;
-
-    /**
-     * For storing the order of magnitude of precision of {@link pi}.
-     */
-    private int oompi;
-
-    /**
-     * The RoundingMode used for rounding {@link pi}.
-     */
-    private RoundingMode rmpi;
-    
     public static final BigRational P180 = BigRational.valueOf(180);
 
     /**
@@ -66,28 +50,17 @@ public class Math_AngleBigRational {
     }
 
     /**
-     * Get pi to the given order of magnitude for the precision using the given 
-     * RoundingMode.
+     * Get pi to the given order of magnitude for the precision using the given
+     * RoundingMode. Pi is cached in
+     * {@link uk.ac.leeds.ccg.math.arithmetic.Math_Constants#PI} and shared by
+     * all instances.
      *
      * @param oom The order of magnitude for the precision.
      * @param rm The RoundingMode for rounding.
      * @return pi to the given order of magnitude using the given RoundingMode.
      */
     public BigRational getPi(int oom, RoundingMode rm) {
-        if (pi != null) {
-            if (oompi <= oom) {
-                if (oompi < oom) {
-                    return Math_BigRational.round(pi, oom, rm);
-                }
-                if (rm.equals(rmpi)) {
-                    return Math_BigRational.round(pi, oom, rm);
-                }
-            }
-        }
-        oompi = oom;
-        rmpi = rm;
-        pi = Math_BigRational.getPi(bd, oom, rm);
-        return pi;
+        return Math_BigRational.getPi(bd, oom, rm);
     }
 
     /**
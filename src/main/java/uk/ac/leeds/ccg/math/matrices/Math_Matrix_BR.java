@@ -32,9 +32,16 @@ public class Math_Matrix_BR {
     protected final BigRational[][] rows;
 
     /**
-     * The columns.
+     * The columns. Only {@link #rows} is held when a matrix is created, so
+     * this is {@code null} until it is initialised by {@link #initCols()}.
+     * Once initialised it is shared with the transpose {@link #mt}.
      */
-    protected final BigRational[][] cols;
+    protected volatile BigRational[][] cols;
+
+    /**
+     * The number of columns.
+     */
+    protected final int nc;
 
     /**
      * For storing the
@@ -57,6 +64,13 @@ public class Math_Matrix_BR {
      */
     protected Math_Matrix_BR rref;
 
+    /**
+     * For storing the fraction free
+     * <a href="https://en.wikipedia.org/wiki/Bareiss_algorithm">Bareiss</a>
+     * elimination of the matrix.
+     */
+    protected Math_Matrix_BR_Bareiss bareiss;
+
     /**
      * Create a new instance. External changes to m will not be reflected in
      * this.
@@ -65,14 +79,10 @@ public class Math_Matrix_BR {
      */
     public Math_Matrix_BR(BigRational[][] m) {
         int nr = m.length;
-        int nc = m[0].length;
+        nc = m[0].length;
         this.rows = new BigRational[nr][nc];
-        this.cols = new BigRational[nc][nr];
         for (int r = 0; r < nr; r++) {
-            for (int c = 0; c < nc; c++) {
-                rows[r][c] = m[r][c];
-                cols[c][r] = m[r][c];
-            }
+            System.arraycopy(m[r], 0, rows[r], 0, nc);
         }
     }
 
@@ -80,11 +90,32 @@ public class Math_Matrix_BR {
      * Create a new instance.
      *
      * @param rows What {@link #rows} is set to.
-     * @param cols What {@link #cols} is set to.
+     * @param cols What {@link #cols} is set to. If this is {@code null} it is
+     * initialised from {@code rows} when it is needed.
      */
     protected Math_Matrix_BR(BigRational[][] rows, BigRational[][] cols) {
         this.rows = rows;
         this.cols = cols;
+        this.nc = cols == null ? rows[0].length : cols.length;
+    }
+
+    /**
+     * Initialises {@link #cols} if it is {@code null}.
+     *
+     * @return {@link #cols}.
+     */
+    protected BigRational[][] initCols() {
+        BigRational[][] r = cols;
+        if (r == null) {
+            r = new BigRational[nc][rows.length];
+            for (int row = 0; row < rows.length; row++) {
+                for (int col = 0; col < nc; col++) {
+                    r[col][row] = rows[row][col];
+                }
+            }
+            cols = r;
+        }
+        return r;
     }
 
     @Override
@@ -92,7 +123,7 @@ public class Math_Matrix_BR {
         String r = this.getClass().getSimpleName() + "(";
             r += "\n";
         for (BigRational[] row : rows) {
-            for (int col = 0; col < cols.length; col++) {
+            for (int col = 0; col < nc; col++) {
                 r += "" + row[col] + " ";
             }
             r += "\n";
@@ -113,7 +144,6 @@ public class Math_Matrix_BR {
     public int hashCode() {
         int hash = 3;
         hash = 11 * hash + Arrays.deepHashCode(this.rows);
-        hash = 11 * hash + Arrays.deepHashCode(this.cols);
         return hash;
     }
 
@@ -122,9 +152,9 @@ public class Math_Matrix_BR {
      * @return {@code true} iff this is equal to {@code m}
      */
     public boolean equals(Math_Matrix_BR m) {
-        if (rows.length == m.rows.length && cols.length == m.cols.length) {
+        if (rows.length == m.rows.length && nc == m.nc) {
             for (int r = 0; r < rows.length; r++) {
-                for (int c = 0; c < cols.length; c++) {
+                for (int c = 0; c < nc; c++) {
                     if (this.rows[r][c].compareTo(m.rows[r][c]) != 0) {
                         return false;
                     }
@@ -145,20 +175,18 @@ public class Math_Matrix_BR {
      */
     public Math_Matrix_BR multiply(Math_Matrix_BR m) {
         Math_Matrix_BR r = null;
-        if (cols.length == m.rows.length) {
-            BigRational[][] rrows = new BigRational[rows.length][m.cols.length];
-            BigRational[][] rcols = new BigRational[m.cols.length][rows.length];
+        if (nc == m.rows.length) {
+            BigRational[][] rrows = new BigRational[rows.length][m.nc];
             for (int row = 0; row < rows.length; row++) {
-                for (int col = 0; col < m.cols.length; col++) {
+                for (int col = 0; col < m.nc; col++) {
                     BigRational v = BigRational.ZERO;
                     for (int i = 0; i < m.rows.length; i++) {
                         v = v.add(rows[row][i].multiply(m.rows[i][col]));
                     }
                     rrows[row][col] = v;
-                    rcols[col][row] = v;
                 }
             }
-            r = new Math_Matrix_BR(rrows, rcols);
+            r = new Math_Matrix_BR(rrows, null);
         }
         return r;
     }
@@ -172,16 +200,14 @@ public class Math_Matrix_BR {
      */
     public Math_Matrix_BR multiply(BigRational s) {
         Math_Matrix_BR r;
-        BigRational[][] rrows = new BigRational[rows.length][cols.length];
-        BigRational[][] rcols = new BigRational[cols.length][rows.length];
+        BigRational[][] rrows = new BigRational[rows.length][nc];
         for (int row = 0; row < rows.length; row++) {
-            for (int col = 0; col < cols.length; col++) {
+            for (int col = 0; col < nc; col++) {
                 BigRational v = rows[row][col].multiply(s);
                 rrows[row][col] = v;
-                rcols[col][row] = v;
             }
         }
-        r = new Math_Matrix_BR(rrows, rcols);
+        r = new Math_Matrix_BR(rrows, null);
         return r;
     }
 
@@ -194,18 +220,16 @@ public class Math_Matrix_BR {
      */
     public Math_Matrix_BR add(Math_Matrix_BR m) {
         Math_Matrix_BR r = null;
-        if (cols.length == m.cols.length) {
+        if (nc == m.nc) {
             if (rows.length == m.rows.length) {
-                BigRational[][] rrows = new BigRational[rows.length][cols.length];
-                BigRational[][] rcols = new BigRational[cols.length][rows.length];
+                BigRational[][] rrows = new BigRational[rows.length][nc];
                 for (int row = 0; row < rows.length; row++) {
-                    for (int col = 0; col < cols.length; col++) {
+                    for (int col = 0; col < nc; col++) {
                         BigRational v = rows[row][col].add(m.rows[row][col]);
                         rrows[row][col] = v;
-                        rcols[col][row] = v;
                     }
                 }
-                r = new Math_Matrix_BR(rrows, rcols);
+                r = new Math_Matrix_BR(rrows, null);
             }
         }
         return r;
@@ -213,12 +237,13 @@ public class Math_Matrix_BR {
 
     /**
      * https://en.wikipedia.org/wiki/Determinant Calculates and returns the
-     * determinant of {@code this}.
+     * determinant of {@code this}. For matrices larger than 3 by 3 this uses
+     * {@link #getBareiss()}.
      *
      * @return The calculated determinant of {@code this}.
      */
     public BigRational getDeterminant() {
-        if (rows.length == cols.length) {
+        if (rows.length == nc) {
             return getDeterminant(rows);
         } else {
             throw new RuntimeException("Cannot calculate determinant of matrix "
@@ -249,40 +274,23 @@ public class Math_Matrix_BR {
                         .subtract(m[0][1].multiply(m[1][0]).multiply(m[2][2]))
                         .subtract(m[0][0].multiply(m[1][2]).multiply(m[2][1]));
             default:
-                // Use Laplace formula recursively
-                BigRational r = BigRational.ZERO;
-                for (int i = 0; i < m.length; i++) {
-                    BigRational sr = m[0][i].multiply(getDeterminant(
-                            getSubMatrix(m, i)));
-                    if (i % 2 == 0) {
-                        r = r.add(sr);
-                    } else {
-                        r = r.subtract(sr);
-                    }
-                }
-                return r;
+                return getBareiss().getDeterminant();
         }
     }
 
-    private BigRational[][] getSubMatrix(BigRational[][] m, int col) {
-        int len = m.length;
-        int len2 = len - 1;
-        int col2 = col + 1;
-        int r = 0;
-        BigRational[][] res = new BigRational[len2][len2];
-        for (int i = 1; i < len; i++) {
-            int c = 0;
-            for (int j = 0; j < col; j++) {
-                res[r][c] = m[i][j];
-                c++;
-            }
-            for (int j = col2; j < len; j++) {
-                res[r][c] = m[i][j];
-                c++;
-            }
-            r++;
+    /**
+     * For computing the fraction free
+     * <a href="https://en.wikipedia.org/wiki/Bareiss_algorithm">Bareiss</a>
+     * elimination of the matrix or returning it if it has already been
+     * computed.
+     *
+     * @return {@link #bareiss} computing it first if it is {@code null}.
+     */
+    public Math_Matrix_BR_Bareiss getBareiss() {
+        if (bareiss == null) {
+            bareiss = new Math_Matrix_BR_Bareiss(this);
         }
-        return res;
+        return bareiss;
     }
 
     /**
@@ -292,15 +300,12 @@ public class Math_Matrix_BR {
      * @return A matrix with values equal to 1 on the diagonal and 0 elsewhere;
      */
     public static Math_Matrix_BR getIdentityMatrix(int size) {
-        Math_Matrix_BR r;
         BigRational[][] rrows = getMatrix(size, size, BigRational.ZERO);
-        BigRational[][] rcols = getMatrix(size, size, BigRational.ZERO);
         for (int i = 0; i < size; i++) {
             rrows[i][i] = BigRational.ONE;
-            rcols[i][i] = BigRational.ONE;
         }
-        r = new Math_Matrix_BR(rrows, rcols);
-        return r;
+        // The matrix is symmetric, so the rows are also the columns.
+        return new Math_Matrix_BR(rrows, rrows);
     }
 
     /**
@@ -324,43 +329,48 @@ public class Math_Matrix_BR {
      * @return A clone of {@link #rows}.
      */
     public BigRational[][] getRows() {
-        BigRational[][] m = new BigRational[rows.length][cols.length];
+        BigRational[][] m = new BigRational[rows.length][nc];
         for (int r = 0; r < rows.length; r++) {
-            System.arraycopy(rows[r], 0, m[r], 0, cols.length);
+            System.arraycopy(rows[r], 0, m[r], 0, nc);
         }
         return m;
     }
 
     /**
-     * @return A clone of {@link #cols}.
+     * @return A clone of {@link #cols}. If {@link #cols} has not been
+     * initialised then this is created from {@link #rows} and
+     * {@link #cols} remains uninitialised.
      */
     public BigRational[][] getCols() {
-        BigRational[][] m = new BigRational[cols.length][rows.length];
-        for (int c = 0; c < cols.length; c++) {
-            System.arraycopy(cols[c], 0, m[c], 0, rows.length);
+        BigRational[][] m = new BigRational[nc][rows.length];
+        BigRational[][] c0 = cols;
+        if (c0 == null) {
+            for (int r = 0; r < rows.length; r++) {
+                for (int c = 0; c < nc; c++) {
+                    m[c][r] = rows[r][c];
+                }
+            }
+        } else {
+            for (int c = 0; c < nc; c++) {
+                System.arraycopy(c0[c], 0, m[c], 0, rows.length);
+            }
         }
         return m;
     }
 
     /**
      * This will also store the transpose in {@link #mt} and likewise store
-     * {@code this} as the transpose in that. For details of what the transpose
-     * of a matrix is see
+     * {@code this} as the transpose in that. The transpose shares
+     * {@link #rows} and {@link #cols} with {@code this} so the values are not
+     * copied, but {@link #cols} is initialised. For details of what the
+     * transpose of a matrix is see
      * <a href="https://en.wikipedia.org/wiki/Transpose">https://en.wikipedia.org/wiki/Transpose</a>.
      *
      * @return {@code this} transposed
      */
     public Math_Matrix_BR getTranspose() {
         if (mt == null) {
-            BigRational[][] rrows = new BigRational[cols.length][rows.length];
-            BigRational[][] rcols = new BigRational[rows.length][cols.length];
-            for (int row = 0; row < rows.length; row++) {
-                for (int col = 0; col < cols.length; col++) {
-                    rrows[col][row] = rows[row][col];
-                    rcols[row][col] = rows[row][col];
-                }
-            }
-            mt = new Math_Matrix_BR(rrows, rcols);
+            mt = new Math_Matrix_BR(initCols(), rows);
             mt.mt = this;
         }
         return mt;
@@ -402,7 +412,7 @@ public class Math_Matrix_BR {
      */
     public boolean isZero() {
         for (BigRational[] row : rows) {
-            for (int c = 0; c <= cols.length; c++) {
+            for (int c = 0; c <= nc; c++) {
                 if (row[c].compareTo(BigRational.ZERO) != 0) {
                     return false;
                 }
@@ -439,27 +449,7 @@ public class Math_Matrix_BR {
      * @return The rank of the matrix.
      */
     public int getRank() {
-        int r = 0;
-        Math_Matrix_BR m = getReducedRowEchelonForm();
-        for (int i = 0; i < m.rows.length; i++) {
-            if (!m.isZeroRow(i)) {
-                r++;
-            }
-        }
-        return r;
-    }
-
-    /**
-     * Swap rows.
-     *
-     * @param m The matrix rows by columns.
-     * @param i Row index of a row to swap.
-     * @param r Row index of a row to swap.
-     */
-    private void swapRows(BigRational[][] m, int i, int r) {
-        BigRational[] mr0 = m[r];
-        m[r] = m[i];
-        m[i] = mr0;
+        return getBareiss().getRank();
     }
 
     /**
@@ -468,63 +458,14 @@ public class Math_Matrix_BR {
      * Form</a> of the matrix using
      * <a href="https://en.wikipedia.org/wiki/Gaussian_elimination">Gaussian
      * elimination</a> or returning it if it has already been computed. The
-     * first non-zero element in each row is 1 if it exists.
+     * first non-zero element in each row is 1 if it exists. The elimination is
+     * done fraction free using {@link #getBareiss()}.
      *
      * @return {@link #ref} computing it first if it is {@code null}.
      */
     public Math_Matrix_BR getRowEchelonForm() {
         if (ref == null) {
-            BigRational[][] m = getRows();
-            int h = 0;
-            /* Initialization of the pivot row */
-            int k = 0;
-            /* Initialization of the pivot column */
-            while (h < rows.length && k < cols.length) {
-                /* Find the k-th pivot: */
-                int i_max = getMaxRowIndex(m, k, h, rows.length);
-                if (m[i_max][k].compareTo(BigRational.ZERO) == 0) {
-                    /* No pivot in this column, pass to next column */
-                    k++;
-                } else {
-                    if (h != i_max) {
-                        swapRows(m, h, i_max);
-                    }
-                    /* Do for all rows below pivot: */
-                    for (int i = h + 1; i < rows.length; i++) {
-                        BigRational f = m[i][k].divide(m[h][k]);
-                        /* Fill with zeros the lower part of pivot column: */
-                        m[i][k] = BigRational.ZERO;
-                        /* Do for all remaining elements in current row: */
-                        for (int j = k + 1; j < cols.length; j++) {
-                            m[i][j] = m[i][j].subtract(m[h][j].multiply(f));
-                        }
-                    }
-                    /* Increase pivot row and column */
-                    h++;
-                    k++;
-                }
-            }
-            for (h = rows.length - 1; h >= 0; h--) {
-                if (!Math_Matrix_BR.isZeroRow(m, h)) {
-                    int i = 0;
-                    BigRational v = null;
-                    for (int col = 0; col < cols.length; col++) {
-                        if (m[h][col].compareTo(BigRational.ZERO) != 0) {
-                            i = col;
-                            v = m[h][col];
-                            break;
-                        }
-                    }
-                    if (v != null) {
-                        if (v.compareTo(BigRational.ONE) != 0) {
-                            for (int col = i; col < cols.length; col++) {
-                                m[h][col] = m[h][col].divide(v);
-                            }
-                        }
-                    }
-                }
-            }
-            ref = new Math_Matrix_BR(m);
+            ref = getBareiss().getRowEchelonForm();
         }
         return ref;
     }
@@ -549,7 +490,7 @@ public class Math_Matrix_BR {
                         if (c > 0) {
                             BigRational d = m[r - 1][c];
                             m[r - 1][c] = BigRational.ZERO;
-                            for (int col = c + 1; col < cols.length; col++) {
+                            for (int col = c + 1; col < nc; col++) {
                                 // Subtract from all the rest of the columns
                                 m[r - 1][col] = m[r - 1][col].subtract(m[r][col].multiply(d));
                             }
@@ -561,7 +502,7 @@ public class Math_Matrix_BR {
                         if (c > 0) {
                             BigRational d = m[r][c];
                             m[r][c] = BigRational.ZERO;
-                            for (int col = c + 1; col < cols.length; col++) {
+                            for (int col = c + 1; col < nc; col++) {
                                 // Subtract from all the rest of the columns
                                 m[r][col] = m[r][col].subtract(m[c][col].multiply(d));
                             }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.matrices;
+
+import ch.obermuhlner.math.big.BigRational;
+import java.math.BigInteger;
+
+/**
+ * For the fraction free
+ * <a href="https://en.wikipedia.org/wiki/Bareiss_algorithm">Bareiss</a>
+ * elimination of a {@link Math_Matrix_BR}. Each row is first multiplied by the
+ * lowest common multiple of the denominators in it, then elimination is done
+ * on the resulting integers. Every division in the elimination is exact and
+ * the intermediate values are minors of the scaled matrix, so they grow only
+ * linearly in size and no greatest common divisors are computed.
+ *
+ * Pivot rows are chosen in the same way as in
+ * {@link Math_Matrix_BR#getMaxRowIndex(BigRational[][], int, int, int)} so the
+ * {@link #getRowEchelonForm()} is the same as that produced using
+ * <a href="https://en.wikipedia.org/wiki/Gaussian_elimination">Gaussian
+ * elimination</a>, except that a column with only zero and negative values
+ * below the pivot row is not skipped.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Matrix_BR_Bareiss {
+
+    /**
+     * The number of rows.
+     */
+    protected final int nr;
+
+    /**
+     * The number of columns.
+     */
+    protected final int nc;
+
+    /**
+     * The rows of the eliminated integer matrix.
+     */
+    protected final BigInteger[][] m;
+
+    /**
+     * The positive factor each row of {@link #m} was multiplied by to clear
+     * its denominators. The factors are in the same order as the rows of
+     * {@link #m}.
+     */
+    protected final BigInteger[] scale;
+
+    /**
+     * The rank.
+     */
+    protected final int rank;
+
+    /**
+     * The determinant of the row permutation, either {@code 1} or {@code -1}.
+     */
+    protected final int pivotSign;
+
+    /**
+     * Create a new instance.
+     *
+     * @param a The matrix to eliminate.
+     */
+    public Math_Matrix_BR_Bareiss(Math_Matrix_BR a) {
+        nr = a.rows.length;
+        nc = a.nc;
+        m = new BigInteger[nr][nc];
+        scale = new BigInteger[nr];
+        for (int r = 0; r < nr; r++) {
+            BigRational[] row = a.rows[r];
+            BigInteger[] nums = new BigInteger[nc];
+            BigInteger[] dens = new BigInteger[nc];
+            BigInteger lcm = BigInteger.ONE;
+            for (int c = 0; c < nc; c++) {
+                BigRational v = row[c].reduce();
+                nums[c] = v.getNumeratorBigInteger();
+                dens[c] = v.getDenominatorBigInteger();
+                if (dens[c].signum() < 0) {
+                    nums[c] = nums[c].negate();
+                    dens[c] = dens[c].negate();
+                }
+                if (!dens[c].equals(BigInteger.ONE)) {
+                    lcm = lcm.divide(lcm.gcd(dens[c])).multiply(dens[c]);
+                }
+            }
+            for (int c = 0; c < nc; c++) {
+                m[r][c] = dens[c].equals(lcm) ? nums[c]
+                        : nums[c].multiply(lcm.divide(dens[c]));
+            }
+            scale[r] = lcm;
+        }
+        BigInteger prev = BigInteger.ONE;
+        int sign = 1;
+        int h = 0;
+        int k = 0;
+        while (h < nr && k < nc) {
+            int p = getMaxRowIndex(k, h, prev.signum());
+            if (m[p][k].signum() == 0) {
+                k++;
+            } else {
+                if (p != h) {
+                    BigInteger[] t = m[p];
+                    m[p] = m[h];
+                    m[h] = t;
+                    BigInteger ts = scale[p];
+                    scale[p] = scale[h];
+                    scale[h] = ts;
+                    sign = -sign;
+                }
+                BigInteger[] rh = m[h];
+                BigInteger pivot = rh[k];
+                for (int i = h + 1; i < nr; i++) {
+                    BigInteger[] ri = m[i];
+                    BigInteger f = ri[k];
+                    ri[k] = BigInteger.ZERO;
+                    for (int j = k + 1; j < nc; j++) {
+                        BigInteger v = pivot.multiply(ri[j]);
+                        if (f.signum() != 0 && rh[j].signum() != 0) {
+                            v = v.subtract(f.multiply(rh[j]));
+                        }
+                        ri[j] = v.divide(prev);
+                    }
+                }
+                prev = pivot;
+                h++;
+                k++;
+            }
+        }
+        rank = h;
+        pivotSign = sign;
+    }
+
+    /**
+     * Equivalent to
+     * {@link Math_Matrix_BR#getMaxRowIndex(BigRational[][], int, int, int)}
+     * applied to the values of the Gaussian elimination. At this stage each
+     * value in column {@code col} of row {@code i} is the Gaussian value
+     * multiplied by {@code scale[i]} and by the previous pivot.
+     *
+     * @param col The column.
+     * @param minrow The minimum row index in which to look.
+     * @param prevSign The sign of the previous pivot.
+     * @return The row index for the row with the largest Gaussian value in
+     * {@code col} in the rows from {@code minrow}, unless that value is zero
+     * in which case the index of the first row with a non-zero value is
+     * returned if there is one.
+     */
+    private int getMaxRowIndex(int col, int minrow, int prevSign) {
+        int r = minrow;
+        for (int row = minrow + 1; row < nr; row++) {
+            int c = m[row][col].multiply(scale[r])
+                    .compareTo(m[r][col].multiply(scale[row]));
+            if (c * prevSign > 0) {
+                r = row;
+            }
+        }
+        if (m[r][col].signum() == 0) {
+            // All the values are zero or negative.
+            for (int row = minrow; row < nr; row++) {
+                if (m[row][col].signum() != 0) {
+                    return row;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @return The rank.
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    /**
+     * @return The determinant.
+     * @throws RuntimeException If the matrix is not square.
+     */
+    public BigRational getDeterminant() {
+        if (nr != nc) {
+            throw new RuntimeException("Cannot calculate determinant of matrix "
+                    + "as it is not square.");
+        }
+        if (rank < nr) {
+            return BigRational.ZERO;
+        }
+        BigInteger d = BigInteger.ONE;
+        for (BigInteger s : scale) {
+            d = d.multiply(s);
+        }
+        BigInteger n = m[nr - 1][nc - 1];
+        if (pivotSign < 0) {
+            n = n.negate();
+        }
+        return BigRational.valueOf(n, d).reduce();
+    }
+
+    /**
+     * @return The
+     * <a href="https://en.wikipedia.org/wiki/Row_echelon_form">Row Echelon
+     * Form</a> where the first non-zero element in each row is 1 if it exists.
+     */
+    public Math_Matrix_BR getRowEchelonForm() {
+        BigRational[][] r = new BigRational[nr][nc];
+        for (int i = 0; i < nr; i++) {
+            BigInteger[] mi = m[i];
+            BigInteger lead = null;
+            for (int j = 0; j < nc; j++) {
+                if (lead == null && mi[j].signum() != 0) {
+                    lead = mi[j];
+                }
+                if (lead == null || mi[j].signum() == 0) {
+                    r[i][j] = BigRational.ZERO;
+                } else {
+                    r[i][j] = BigRational.valueOf(mi[j], lead).reduce();
+                }
+            }
+        }
+        return new Math_Matrix_BR(r, null);
+    }
+}
@@ -16,6 +16,8 @@
 package uk.ac.leeds.ccg.math.matrices;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * For processing matrices holding double numbers.
@@ -31,9 +33,16 @@ public class Math_Matrix_Double {
     protected final double[][] rows;
 
     /**
-     * The columns.
+     * The columns. Only {@link #rows} is held when a matrix is created, so
+     * this is {@code null} until it is initialised by {@link #initCols()}.
+     * Once initialised it is shared with the transpose {@link #mt}.
      */
-    protected final double[][] cols;
+    protected volatile double[][] cols;
+
+    /**
+     * The number of columns.
+     */
+    protected final int nc;
 
     /**
      * For storing the
@@ -56,6 +65,20 @@ public class Math_Matrix_Double {
      */
     protected Math_Matrix_Double rref;
 
+    /**
+     * For storing the
+     * <a href="https://en.wikipedia.org/wiki/LU_decomposition">LU
+     * decomposition</a> of the matrix.
+     */
+    protected Math_Matrix_Double_LU lu;
+
+    /**
+     * For storing the
+     * <a href="https://en.wikipedia.org/wiki/Cholesky_decomposition">Cholesky
+     * decomposition</a> of the matrix.
+     */
+    protected Math_Matrix_Double_Cholesky cholesky;
+
     /**
      * Create a new instance. External changes to m will not be reflected in
      * this.
@@ -64,14 +87,10 @@ public class Math_Matrix_Double {
      */
     public Math_Matrix_Double(double[][] m) {
         int nr = m.length;
-        int nc = m[0].length;
+        nc = m[0].length;
         this.rows = new double[nr][nc];
-        this.cols = new double[nc][nr];
         for (int r = 0; r < nr; r++) {
-            for (int c = 0; c < nc; c++) {
-                rows[r][c] = m[r][c];
-                cols[c][r] = m[r][c];
-            }
+            System.arraycopy(m[r], 0, rows[r], 0, nc);
         }
     }
 
@@ -79,11 +98,32 @@ public class Math_Matrix_Double {
      * Create a new instance.
      *
      * @param rows What {@link #rows} is set to.
-     * @param cols What {@link #cols} is set to.
+     * @param cols What {@link #cols} is set to. If this is {@code null} it is
+     * initialised from {@code rows} when it is needed.
      */
     protected Math_Matrix_Double(double[][] rows, double[][] cols) {
         this.rows = rows;
         this.cols = cols;
+        this.nc = cols == null ? rows[0].length : cols.length;
+    }
+
+    /**
+     * Initialises {@link #cols} if it is {@code null}.
+     *
+     * @return {@link #cols}.
+     */
+    protected double[][] initCols() {
+        double[][] r = cols;
+        if (r == null) {
+            r = new double[nc][rows.length];
+            for (int row = 0; row < rows.length; row++) {
+                for (int col = 0; col < nc; col++) {
+                    r[col][row] = rows[row][col];
+                }
+            }
+            cols = r;
+        }
+        return r;
     }
 
     @Override
@@ -91,7 +131,7 @@ public class Math_Matrix_Double {
         String r = this.getClass().getSimpleName() + "(";
         r += "\n";
         for (double[] row : rows) {
-            for (int col = 0; col < cols.length; col++) {
+            for (int col = 0; col < nc; col++) {
                 r += "" + row[col] + " ";
             }
             r += "\n";
@@ -112,7 +152,6 @@ public class Math_Matrix_Double {
     public int hashCode() {
         int hash = 3;
         hash = 11 * hash + Arrays.deepHashCode(this.rows);
-        hash = 11 * hash + Arrays.deepHashCode(this.cols);
         return hash;
     }
 
@@ -121,9 +160,9 @@ public class Math_Matrix_Double {
      * @return {@code true} iff this is equal to {@code m}
      */
     public boolean equals(Math_Matrix_Double m) {
-        if (rows.length == m.rows.length && cols.length == m.cols.length) {
+        if (rows.length == m.rows.length && nc == m.nc) {
             for (int r = 0; r < rows.length; r++) {
-                for (int c = 0; c < cols.length; c++) {
+                for (int c = 0; c < nc; c++) {
                     if (this.rows[r][c] != m.rows[r][c]) {
                         return false;
                     }
@@ -136,7 +175,13 @@ public class Math_Matrix_Double {
 
     /**
      * <a href="https://en.wikipedia.org/wiki/Matrix_multiplication">Matrix
-     * multiplication</a>
+     * multiplication</a>. The operands are packed into contiguous row major
+     * arrays and multiplied in tiles of {@link #BLOCK_ROWS} by
+     * {@link #BLOCK_INNER} by {@link #BLOCK_COLS} so that the tiles in use stay
+     * in cache. Blocks of rows are multiplied in parallel in the
+     * {@link ForkJoinPool#commonPool()}. Each value is accumulated in the same
+     * order as for a naive triple loop, so results do not depend on the tiling
+     * or on the number of threads.
      *
      * @param m The matrix to multiply {@code this} by.
      * @return Result of multiplying {@code this} by {@code m}, or {@code null}
@@ -144,22 +189,160 @@ public class Math_Matrix_Double {
      */
     public Math_Matrix_Double multiply(Math_Matrix_Double m) {
         Math_Matrix_Double r = null;
-        if (cols.length == m.rows.length) {
-            double[][] rrows = new double[rows.length][m.cols.length];
-            double[][] rcols = new double[m.cols.length][rows.length];
-            for (int row = 0; row < rows.length; row++) {
-                for (int col = 0; col < m.cols.length; col++) {
-                    double v = 0d;
-                    for (int i = 0; i < m.rows.length; i++) {
-                        v += rows[row][i] * m.rows[i][col];
+        if (nc == m.rows.length) {
+            int nr = rows.length;
+            int nk = m.rows.length;
+            int mc = m.nc;
+            double[] a = pack(rows, nr, nk);
+            double[] b = pack(m.rows, nk, mc);
+            double[] c = new double[nr * mc];
+            MultiplyTask t = new MultiplyTask(a, b, c, nk, mc, 0, nr);
+            if ((long) nr * nk * mc < PARALLEL_THRESHOLD) {
+                t.compute();
+            } else {
+                ForkJoinPool.commonPool().invoke(t);
+            }
+            double[][] rrows = new double[nr][mc];
+            for (int row = 0; row < nr; row++) {
+                System.arraycopy(c, row * mc, rrows[row], 0, mc);
+            }
+            r = new Math_Matrix_Double(rrows, null);
+        }
+        return r;
+    }
+
+    /**
+     * The number of rows of the left operand in a block for
+     * {@link #multiply(Math_Matrix_Double)}. This is also the smallest number
+     * of rows multiplied in a single task.
+     */
+    static final int BLOCK_ROWS = 64;
+
+    /**
+     * The length of the inner dimension of a block for
+     * {@link #multiply(Math_Matrix_Double)}.
+     */
+    static final int BLOCK_INNER = 128;
+
+    /**
+     * The number of columns of the right operand in a block for
+     * {@link #multiply(Math_Matrix_Double)}.
+     */
+    static final int BLOCK_COLS = 512;
+
+    /**
+     * The number of multiplications below which
+     * {@link #multiply(Math_Matrix_Double)} is done in the calling thread.
+     */
+    static final long PARALLEL_THRESHOLD = 1L << 18;
+
+    /**
+     * @param m The matrix rows by columns.
+     * @param nr The number of rows.
+     * @param nc The number of columns.
+     * @return The values of {@code m} in a row major array.
+     */
+    static double[] pack(double[][] m, int nr, int nc) {
+        double[] r = new double[nr * nc];
+        for (int row = 0; row < nr; row++) {
+            System.arraycopy(m[row], 0, r, row * nc, nc);
+        }
+        return r;
+    }
+
+    /**
+     * For multiplying row major arrays {@code c += a * b} for a range of rows
+     * of {@code a} and {@code c}, splitting the range in two until it is no
+     * more than {@link #BLOCK_ROWS} rows.
+     */
+    static class MultiplyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The left operand.
+         */
+        final double[] a;
+
+        /**
+         * The right operand.
+         */
+        final double[] b;
+
+        /**
+         * The result.
+         */
+        final double[] c;
+
+        /**
+         * The number of columns in {@link #a} and rows in {@link #b}.
+         */
+        final int nk;
+
+        /**
+         * The number of columns in {@link #b} and {@link #c}.
+         */
+        final int nc;
+
+        /**
+         * The first row.
+         */
+        final int r0;
+
+        /**
+         * One more than the last row.
+         */
+        final int r1;
+
+        MultiplyTask(double[] a, double[] b, double[] c, int nk, int nc,
+                int r0, int r1) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.nk = nk;
+            this.nc = nc;
+            this.r0 = r0;
+            this.r1 = r1;
+        }
+
+        @Override
+        protected void compute() {
+            if (r1 - r0 > BLOCK_ROWS && getPool() != null) {
+                int mid = r0 + (((r1 - r0) / BLOCK_ROWS + 1) / 2) * BLOCK_ROWS;
+                invokeAll(new MultiplyTask(a, b, c, nk, nc, r0, mid),
+                        new MultiplyTask(a, b, c, nk, nc, mid, r1));
+                return;
+            }
+            for (int i0 = r0; i0 < r1; i0 += BLOCK_ROWS) {
+                int i1 = Math.min(i0 + BLOCK_ROWS, r1);
+                for (int j0 = 0; j0 < nc; j0 += BLOCK_COLS) {
+                    int j1 = Math.min(j0 + BLOCK_COLS, nc);
+                    for (int k0 = 0; k0 < nk; k0 += BLOCK_INNER) {
+                        int k1 = Math.min(k0 + BLOCK_INNER, nk);
+                        kernel(i0, i1, j0, j1, k0, k1);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Multiplies a tile. The innermost loop runs along contiguous rows of
+         * {@link #b} and {@link #c} so that it can be vectorised by the just
+         * in time compiler.
+         */
+        private void kernel(int i0, int i1, int j0, int j1, int k0, int k1) {
+            for (int i = i0; i < i1; i++) {
+                int ci = i * nc;
+                int ai = i * nk;
+                for (int k = k0; k < k1; k++) {
+                    double v = a[ai + k];
+                    int bk = k * nc;
+                    for (int j = j0; j < j1; j++) {
+                        c[ci + j] += v * b[bk + j];
                     }
-                    rrows[row][col] = v;
-                    rcols[col][row] = v;
                 }
             }
-            r = new Math_Matrix_Double(rrows, rcols);
         }
-        return r;
     }
 
     /**
@@ -171,16 +354,14 @@ public class Math_Matrix_Double {
      */
     public Math_Matrix_Double multiply(double s) {
         Math_Matrix_Double r;
-        double[][] rrows = new double[rows.length][cols.length];
-        double[][] rcols = new double[cols.length][rows.length];
+        double[][] rrows = new double[rows.length][nc];
         for (int row = 0; row < rows.length; row++) {
-            for (int col = 0; col < cols.length; col++) {
+            for (int col = 0; col < nc; col++) {
                 double v = rows[row][col] * s;
                 rrows[row][col] = v;
-                rcols[col][row] = v;
             }
         }
-        r = new Math_Matrix_Double(rrows, rcols);
+        r = new Math_Matrix_Double(rrows, null);
         return r;
     }
 
@@ -193,18 +374,16 @@ public class Math_Matrix_Double {
      */
     public Math_Matrix_Double add(Math_Matrix_Double m) {
         Math_Matrix_Double r = null;
-        if (cols.length == m.cols.length) {
+        if (nc == m.nc) {
             if (rows.length == m.rows.length) {
-                double[][] rrows = new double[rows.length][cols.length];
-                double[][] rcols = new double[cols.length][rows.length];
+                double[][] rrows = new double[rows.length][nc];
                 for (int row = 0; row < rows.length; row++) {
-                    for (int col = 0; col < cols.length; col++) {
+                    for (int col = 0; col < nc; col++) {
                         double v = rows[row][col] + m.rows[row][col];
                         rrows[row][col] = v;
-                        rcols[col][row] = v;
                     }
                 }
-                r = new Math_Matrix_Double(rrows, rcols);
+                r = new Math_Matrix_Double(rrows, null);
             }
         }
         return r;
@@ -212,12 +391,13 @@ public class Math_Matrix_Double {
 
     /**
      * https://en.wikipedia.org/wiki/Determinant Calculates and returns the
-     * determinant of {@code this}.
+     * determinant of {@code this}. For matrices larger than 3 by 3 this uses
+     * {@link #getLU()}.
      *
      * @return The calculated determinant of {@code this}.
      */
     public double getDeterminant() {
-        if (rows.length == cols.length) {
+        if (rows.length == nc) {
             return getDeterminant(rows);
         } else {
             throw new RuntimeException("Cannot calculate determinant of matrix "
@@ -247,40 +427,93 @@ public class Math_Matrix_Double {
                         - (m[0][1] * (m[1][0]) * (m[2][2]))
                         - (m[0][0] * (m[1][2]) * (m[2][1]));
             default:
-                // Use Laplace formula recursively
-                double r = 0d;
-                for (int i = 0; i < m.length; i++) {
-                    double sr = m[0][i] * (getDeterminant(
-                            getSubMatrix(m, i)));
-                    if (i % 2 == 0) {
-                        r = r + (sr);
-                    } else {
-                        r = r - (sr);
-                    }
-                }
-                return r;
+                return getLU().getDeterminant();
         }
     }
 
-    private double[][] getSubMatrix(double[][] m, int col) {
-        int len = m.length;
-        int len2 = len - 1;
-        int col2 = col + 1;
-        int r = 0;
-        double[][] res = new double[len2][len2];
-        for (int i = 1; i < len; i++) {
-            int c = 0;
-            for (int j = 0; j < col; j++) {
-                res[r][c] = m[i][j];
-                c++;
-            }
-            for (int j = col2; j < len; j++) {
-                res[r][c] = m[i][j];
-                c++;
-            }
-            r++;
+    /**
+     * For computing the
+     * <a href="https://en.wikipedia.org/wiki/LU_decomposition">LU
+     * decomposition</a> of the matrix with partial pivoting or returning it if
+     * it has already been computed.
+     *
+     * @return {@link #lu} computing it first if it is {@code null}.
+     * @throws RuntimeException If {@code this} is not square.
+     */
+    public Math_Matrix_Double_LU getLU() {
+        if (lu == null) {
+            lu = new Math_Matrix_Double_LU(this);
         }
-        return res;
+        return lu;
+    }
+
+    /**
+     * For computing the
+     * <a href="https://en.wikipedia.org/wiki/Cholesky_decomposition">Cholesky
+     * decomposition</a> of the matrix or returning it if it has already been
+     * computed.
+     *
+     * @return {@link #cholesky} computing it first if it is {@code null}. If
+     * {@code this} is not symmetric positive definite then
+     * {@link Math_Matrix_Double_Cholesky#isPositiveDefinite()} returns
+     * {@code false}.
+     * @throws RuntimeException If {@code this} is not square.
+     */
+    public Math_Matrix_Double_Cholesky getCholesky() {
+        if (cholesky == null) {
+            cholesky = new Math_Matrix_Double_Cholesky(this);
+        }
+        return cholesky;
+    }
+
+    /**
+     * Solve {@code this * x = b} using {@link #getCholesky()} if {@code this}
+     * is symmetric positive definite, otherwise using {@link #getLU()}.
+     *
+     * @param b The right hand side.
+     * @return {@code x}.
+     * @throws RuntimeException If {@code this} is not square.
+     * @throws IllegalArgumentException If {@code b.length} is not the number
+     * of rows.
+     * @throws ArithmeticException If {@code this} is singular.
+     */
+    public double[] solve(double[] b) {
+        Math_Matrix_Double_Cholesky c = getCholesky();
+        if (c.isPositiveDefinite()) {
+            return c.solve(b);
+        }
+        return getLU().solve(b);
+    }
+
+    /**
+     * Solve {@code this * x = b} for each column of {@code b} using
+     * {@link #getCholesky()} if {@code this} is symmetric positive definite,
+     * otherwise using {@link #getLU()}.
+     *
+     * @param b The right hand side.
+     * @return {@code x}.
+     * @throws RuntimeException If {@code this} is not square.
+     * @throws IllegalArgumentException If {@code b} does not have the same
+     * number of rows as {@code this}.
+     * @throws ArithmeticException If {@code this} is singular.
+     */
+    public Math_Matrix_Double solve(Math_Matrix_Double b) {
+        Math_Matrix_Double_Cholesky c = getCholesky();
+        if (c.isPositiveDefinite()) {
+            return c.solve(b);
+        }
+        return getLU().solve(b);
+    }
+
+    /**
+     * https://en.wikipedia.org/wiki/Invertible_matrix
+     *
+     * @return The inverse of {@code this}.
+     * @throws RuntimeException If {@code this} is not square.
+     * @throws ArithmeticException If {@code this} is singular.
+     */
+    public Math_Matrix_Double getInverse() {
+        return solve(getIdentityMatrix(nc));
     }
 
     /**
@@ -290,15 +523,12 @@ public class Math_Matrix_Double {
      * @return A matrix with values equal to 1 on the diagonal and 0 elsewhere;
      */
     public static Math_Matrix_Double getIdentityMatrix(int size) {
-        Math_Matrix_Double r;
         double[][] rrows = getMatrix(size, size, 0d);
-        double[][] rcols = getMatrix(size, size, 0d);
         for (int i = 0; i < size; i++) {
             rrows[i][i] = 1d;
-            rcols[i][i] = 1d;
         }
-        r = new Math_Matrix_Double(rrows, rcols);
-        return r;
+        // The matrix is symmetric, so the rows are also the columns.
+        return new Math_Matrix_Double(rrows, rrows);
     }
 
     /**
@@ -322,43 +552,48 @@ public class Math_Matrix_Double {
      * @return A clone of {@link #rows}.
      */
     public double[][] getRows() {
-        double[][] m = new double[rows.length][cols.length];
+        double[][] m = new double[rows.length][nc];
         for (int r = 0; r < rows.length; r++) {
-            System.arraycopy(rows[r], 0, m[r], 0, cols.length);
+            System.arraycopy(rows[r], 0, m[r], 0, nc);
         }
         return m;
     }
 
     /**
-     * @return A clone of {@link #cols}.
+     * @return A clone of {@link #cols}. If {@link #cols} has not been
+     * initialised then this is created from {@link #rows} and
+     * {@link #cols} remains uninitialised.
      */
     public double[][] getCols() {
-        double[][] m = new double[cols.length][rows.length];
-        for (int c = 0; c < cols.length; c++) {
-            System.arraycopy(cols[c], 0, m[c], 0, rows.length);
+        double[][] m = new double[nc][rows.length];
+        double[][] c0 = cols;
+        if (c0 == null) {
+            for (int r = 0; r < rows.length; r++) {
+                for (int c = 0; c < nc; c++) {
+                    m[c][r] = rows[r][c];
+                }
+            }
+        } else {
+            for (int c = 0; c < nc; c++) {
+                System.arraycopy(c0[c], 0, m[c], 0, rows.length);
+            }
         }
         return m;
     }
 
     /**
      * This will also store the transpose in {@link #mt} and likewise store
-     * {@code this} as the transpose in that. For details of what the transpose
-     * of a matrix is see
+     * {@code this} as the transpose in that. The transpose shares
+     * {@link #rows} and {@link #cols} with {@code this} so the values are not
+     * copied, but {@link #cols} is initialised. For details of what the
+     * transpose of a matrix is see
      * <a href="https://en.wikipedia.org/wiki/Transpose">https://en.wikipedia.org/wiki/Transpose</a>.
      *
      * @return {@code this} transposed
      */
     public Math_Matrix_Double getTranspose() {
         if (mt == null) {
-            double[][] rrows = new double[cols.length][rows.length];
-            double[][] rcols = new double[rows.length][cols.length];
-            for (int row = 0; row < rows.length; row++) {
-                for (int col = 0; col < cols.length; col++) {
-                    rrows[col][row] = rows[row][col];
-                    rcols[row][col] = rows[row][col];
-                }
-            }
-            mt = new Math_Matrix_Double(rrows, rcols);
+            mt = new Math_Matrix_Double(initCols(), rows);
             mt.mt = this;
         }
         return mt;
@@ -400,7 +635,7 @@ public class Math_Matrix_Double {
      */
     public boolean isZero() {
         for (double[] row : rows) {
-            for (int c = 0; c <= cols.length; c++) {
+            for (int c = 0; c <= nc; c++) {
                 if (row[c] != 0d) {
                     return false;
                 }
@@ -477,7 +712,7 @@ public class Math_Matrix_Double {
             /* Initialization of the pivot row */
             int k = 0;
             /* Initialization of the pivot column */
-            while (h < rows.length && k < cols.length) {
+            while (h < rows.length && k < nc) {
                 /* Find the k-th pivot: */
                 int i_max = getMaxRowIndex(m, k, h, rows.length);
                 if (m[i_max][k] == 0d) {
@@ -493,7 +728,7 @@ public class Math_Matrix_Double {
                         /* Fill with zeros the lower part of pivot column: */
                         m[i][k] = 0d;
                         /* Do for all remaining elements in current row: */
-                        for (int j = k + 1; j < cols.length; j++) {
+                        for (int j = k + 1; j < nc; j++) {
                             m[i][j] = m[i][j] - (m[h][j] * (f));
                         }
                     }
@@ -506,7 +741,7 @@ public class Math_Matrix_Double {
                 if (!Math_Matrix_Double.isZeroRow(m, h)) {
                     int i = 0;
                     double v = 0d;
-                    for (int col = 0; col < cols.length; col++) {
+                    for (int col = 0; col < nc; col++) {
                         if (m[h][col] != 0d) {
                             i = col;
                             v = m[h][col];
@@ -514,7 +749,7 @@ public class Math_Matrix_Double {
                         }
                     }
                     if (v != 0d) {
-                        for (int col = i; col < cols.length; col++) {
+                        for (int col = i; col < nc; col++) {
                             m[h][col] = m[h][col] / (v);
                         }
                     }
@@ -545,7 +780,7 @@ public class Math_Matrix_Double {
                         if (c > 0) {
                             double d = m[r - 1][c];
                             m[r - 1][c] = 0d;
-                            for (int col = c + 1; col < cols.length; col++) {
+                            for (int col = c + 1; col < nc; col++) {
                                 // Subtract from all the rest of the columns
                                 m[r - 1][col] = m[r - 1][col] - (m[r][col] * (d));
                             }
@@ -557,7 +792,7 @@ public class Math_Matrix_Double {
                         if (c > 0) {
                             double d = m[r][c];
                             m[r][c] = 0d;
-                            for (int col = c + 1; col < cols.length; col++) {
+                            for (int col = c + 1; col < nc; col++) {
                                 // Subtract from all the rest of the columns
                                 m[r][col] = m[r][col] - (m[c][col] * (d));
                             }
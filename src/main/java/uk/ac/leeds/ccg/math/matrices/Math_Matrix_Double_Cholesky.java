@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.matrices;
+
+/**
+ * For the
+ * <a href="https://en.wikipedia.org/wiki/Cholesky_decomposition">Cholesky
+ * decomposition</a> of a symmetric positive definite
+ * {@link Math_Matrix_Double} {@code A} such that {@code A = LL^T} where
+ * {@code L} is lower triangular. This takes about half the operations of a
+ * {@link Math_Matrix_Double_LU} and needs no pivoting. If the matrix is not
+ * symmetric positive definite then {@link #isPositiveDefinite()} returns
+ * {@code false} and the decomposition cannot be used.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Matrix_Double_Cholesky {
+
+    /**
+     * The dimension of the matrix.
+     */
+    protected final int n;
+
+    /**
+     * The rows of {@code L} or {@code null} if the matrix is not symmetric
+     * positive definite.
+     */
+    protected final double[][] l;
+
+    /**
+     * Create a new instance.
+     *
+     * @param a The square matrix to decompose.
+     * @throws RuntimeException If {@code a} is not square.
+     */
+    public Math_Matrix_Double_Cholesky(Math_Matrix_Double a) {
+        if (a.rows.length != a.nc) {
+            throw new RuntimeException("Cannot decompose matrix as it is not "
+                    + "square.");
+        }
+        n = a.nc;
+        l = decompose(a.rows, n);
+    }
+
+    /**
+     * @param m The rows of the matrix.
+     * @param n The dimension of the matrix.
+     * @return The rows of {@code L} or {@code null} if {@code m} is not
+     * symmetric positive definite.
+     */
+    private static double[][] decompose(double[][] m, int n) {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < i; j++) {
+                if (m[i][j] != m[j][i]) {
+                    return null;
+                }
+            }
+        }
+        double[][] r = new double[n][];
+        for (int i = 0; i < n; i++) {
+            double[] ri = new double[i + 1];
+            for (int j = 0; j <= i; j++) {
+                double[] rj = j < i ? r[j] : ri;
+                double v = m[i][j];
+                for (int k = 0; k < j; k++) {
+                    v -= ri[k] * rj[k];
+                }
+                if (j < i) {
+                    ri[j] = v / rj[j];
+                } else {
+                    if (!(v > 0d)) {
+                        return null;
+                    }
+                    ri[i] = Math.sqrt(v);
+                }
+            }
+            r[i] = ri;
+        }
+        return r;
+    }
+
+    /**
+     * @return {@code true} iff the matrix is symmetric positive definite and
+     * so was decomposed.
+     */
+    public boolean isPositiveDefinite() {
+        return l != null;
+    }
+
+    /**
+     * @return {@code L}, the lower triangular factor.
+     * @throws ArithmeticException If the matrix is not symmetric positive
+     * definite.
+     */
+    public Math_Matrix_Double getL() {
+        checkPositiveDefinite();
+        double[][] r = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(l[i], 0, r[i], 0, i + 1);
+        }
+        return new Math_Matrix_Double(r, null);
+    }
+
+    /**
+     * @return The determinant of the decomposed matrix.
+     * @throws ArithmeticException If the matrix is not symmetric positive
+     * definite.
+     */
+    public double getDeterminant() {
+        checkPositiveDefinite();
+        double r = 1d;
+        for (int i = 0; i < n; i++) {
+            r *= l[i][i];
+        }
+        return r * r;
+    }
+
+    /**
+     * Solve {@code Ax = b}.
+     *
+     * @param b The right hand side.
+     * @return {@code x}.
+     * @throws IllegalArgumentException If {@code b.length} is not the
+     * dimension of the matrix.
+     * @throws ArithmeticException If the matrix is not symmetric positive
+     * definite.
+     */
+    public double[] solve(double[] b) {
+        if (b.length != n) {
+            throw new IllegalArgumentException("b.length = " + b.length
+                    + " != " + n);
+        }
+        checkPositiveDefinite();
+        double[] x = b.clone();
+        solveInPlace(x);
+        return x;
+    }
+
+    /**
+     * Solve {@code AX = B}.
+     *
+     * @param b The right hand side {@code B}.
+     * @return {@code X}.
+     * @throws IllegalArgumentException If {@code b} does not have the same
+     * number of rows as the matrix.
+     * @throws ArithmeticException If the matrix is not symmetric positive
+     * definite.
+     */
+    public Math_Matrix_Double solve(Math_Matrix_Double b) {
+        if (b.rows.length != n) {
+            throw new IllegalArgumentException("b has " + b.rows.length
+                    + " rows not " + n);
+        }
+        checkPositiveDefinite();
+        double[][] xcols = b.getCols();
+        for (double[] x : xcols) {
+            solveInPlace(x);
+        }
+        return new Math_Matrix_Double(xcols, null).getTranspose();
+    }
+
+    /**
+     * @return The inverse of the matrix.
+     * @throws ArithmeticException If the matrix is not symmetric positive
+     * definite.
+     */
+    public Math_Matrix_Double getInverse() {
+        return solve(Math_Matrix_Double.getIdentityMatrix(n));
+    }
+
+    /**
+     * Forward substitution with {@code L} followed by back substitution with
+     * {@code L^T}.
+     *
+     * @param x The right hand side which is overwritten with the solution.
+     */
+    private void solveInPlace(double[] x) {
+        for (int i = 0; i < n; i++) {
+            double[] li = l[i];
+            double v = x[i];
+            for (int j = 0; j < i; j++) {
+                v -= li[j] * x[j];
+            }
+            x[i] = v / li[i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double v = x[i];
+            for (int j = i + 1; j < n; j++) {
+                v -= l[j][i] * x[j];
+            }
+            x[i] = v / l[i][i];
+        }
+    }
+
+    /**
+     * @throws ArithmeticException If the matrix is not symmetric positive
+     * definite.
+     */
+    private void checkPositiveDefinite() {
+        if (l == null) {
+            throw new ArithmeticException("Matrix is not symmetric positive "
+                    + "definite.");
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.matrices;
+
+/**
+ * For the
+ * <a href="https://en.wikipedia.org/wiki/LU_decomposition">LU
+ * decomposition</a> with partial pivoting of a square
+ * {@link Math_Matrix_Double} {@code A} such that {@code PA = LU} where
+ * {@code P} is a permutation matrix, {@code L} is lower triangular with ones on
+ * the diagonal and {@code U} is upper triangular. Once computed, the
+ * decomposition gives the determinant in {@code O(n)} and solves linear
+ * systems in {@code O(n^2)} for each right hand side.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_Matrix_Double_LU {
+
+    /**
+     * The dimension of the matrix.
+     */
+    protected final int n;
+
+    /**
+     * The rows of {@code L} below the diagonal and {@code U} on and above the
+     * diagonal.
+     */
+    protected final double[][] lu;
+
+    /**
+     * For each row of {@link #lu}, the index of the row of {@code A} that it
+     * came from.
+     */
+    protected final int[] pivot;
+
+    /**
+     * The determinant of {@code P}, either {@code 1} or {@code -1}.
+     */
+    protected final int pivotSign;
+
+    /**
+     * Create a new instance.
+     *
+     * @param a The square matrix to decompose.
+     * @throws RuntimeException If {@code a} is not square.
+     */
+    public Math_Matrix_Double_LU(Math_Matrix_Double a) {
+        if (a.rows.length != a.nc) {
+            throw new RuntimeException("Cannot decompose matrix as it is not "
+                    + "square.");
+        }
+        n = a.nc;
+        lu = a.getRows();
+        pivot = new int[n];
+        for (int i = 0; i < n; i++) {
+            pivot[i] = i;
+        }
+        int sign = 1;
+        for (int k = 0; k < n; k++) {
+            // Find the pivot.
+            int p = k;
+            double max = Math.abs(lu[k][k]);
+            for (int i = k + 1; i < n; i++) {
+                double v = Math.abs(lu[i][k]);
+                if (v > max) {
+                    max = v;
+                    p = i;
+                }
+            }
+            if (p != k) {
+                double[] t = lu[p];
+                lu[p] = lu[k];
+                lu[k] = t;
+                int ti = pivot[p];
+                pivot[p] = pivot[k];
+                pivot[k] = ti;
+                sign = -sign;
+            }
+            double[] rk = lu[k];
+            double d = rk[k];
+            if (d != 0d) {
+                for (int i = k + 1; i < n; i++) {
+                    double[] ri = lu[i];
+                    double f = ri[k] / d;
+                    ri[k] = f;
+                    if (f != 0d) {
+                        for (int j = k + 1; j < n; j++) {
+                            ri[j] -= f * rk[j];
+                        }
+                    }
+                }
+            }
+        }
+        pivotSign = sign;
+    }
+
+    /**
+     * @return {@code true} iff the matrix is singular, that is iff there is a
+     * zero on the diagonal of {@code U}.
+     */
+    public boolean isSingular() {
+        for (int i = 0; i < n; i++) {
+            if (lu[i][i] == 0d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The determinant of the decomposed matrix.
+     */
+    public double getDeterminant() {
+        double r = pivotSign;
+        for (int i = 0; i < n; i++) {
+            r *= lu[i][i];
+        }
+        return r;
+    }
+
+    /**
+     * @return {@code L}, the lower triangular factor.
+     */
+    public Math_Matrix_Double getL() {
+        double[][] l = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(lu[i], 0, l[i], 0, i);
+            l[i][i] = 1d;
+        }
+        return new Math_Matrix_Double(l, null);
+    }
+
+    /**
+     * @return {@code U}, the upper triangular factor.
+     */
+    public Math_Matrix_Double getU() {
+        double[][] u = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(lu[i], i, u[i], i, n - i);
+        }
+        return new Math_Matrix_Double(u, null);
+    }
+
+    /**
+     * @return A copy of {@link #pivot}.
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Solve {@code Ax = b}.
+     *
+     * @param b The right hand side.
+     * @return {@code x}.
+     * @throws IllegalArgumentException If {@code b.length} is not the
+     * dimension of the matrix.
+     * @throws ArithmeticException If the matrix is singular.
+     */
+    public double[] solve(double[] b) {
+        if (b.length != n) {
+            throw new IllegalArgumentException("b.length = " + b.length
+                    + " != " + n);
+        }
+        checkNonSingular();
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = b[pivot[i]];
+        }
+        solveInPlace(x);
+        return x;
+    }
+
+    /**
+     * Solve {@code AX = B}.
+     *
+     * @param b The right hand side {@code B}.
+     * @return {@code X}.
+     * @throws IllegalArgumentException If {@code b} does not have the same
+     * number of rows as the matrix.
+     * @throws ArithmeticException If the matrix is singular.
+     */
+    public Math_Matrix_Double solve(Math_Matrix_Double b) {
+        if (b.rows.length != n) {
+            throw new IllegalArgumentException("b has " + b.rows.length
+                    + " rows not " + n);
+        }
+        checkNonSingular();
+        double[][] xcols = b.getCols();
+        for (double[] bc : xcols) {
+            double[] x = new double[n];
+            for (int i = 0; i < n; i++) {
+                x[i] = bc[pivot[i]];
+            }
+            solveInPlace(x);
+            System.arraycopy(x, 0, bc, 0, n);
+        }
+        return new Math_Matrix_Double(xcols, null).getTranspose();
+    }
+
+    /**
+     * @return The inverse of the matrix.
+     * @throws ArithmeticException If the matrix is singular.
+     */
+    public Math_Matrix_Double getInverse() {
+        return solve(Math_Matrix_Double.getIdentityMatrix(n));
+    }
+
+    /**
+     * Forward substitution with {@code L} followed by back substitution with
+     * {@code U}.
+     *
+     * @param x The permuted right hand side which is overwritten with the
+     * solution.
+     */
+    private void solveInPlace(double[] x) {
+        for (int i = 1; i < n; i++) {
+            double[] ri = lu[i];
+            double v = x[i];
+            for (int j = 0; j < i; j++) {
+                v -= ri[j] * x[j];
+            }
+            x[i] = v;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double[] ri = lu[i];
+            double v = x[i];
+            for (int j = i + 1; j < n; j++) {
+                v -= ri[j] * x[j];
+            }
+            x[i] = v / ri[i];
+        }
+    }
+
+    /**
+     * @throws ArithmeticException If the matrix is singular.
+     */
+    private void checkNonSingular() {
+        if (isSingular()) {
+            throw new ArithmeticException("Matrix is singular.");
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.primes;
+
+/**
+ * An in memory index of the primes up to a limit supporting
+ * <a href="https://en.wikipedia.org/wiki/Prime-counting_function">prime
+ * counting</a> and finding the index of a prime in constant time, and
+ * finding the nth prime in logarithmic time.
+ *
+ * The primes are held in an odd number bitmap as produced by
+ * {@link Math_PrimeSieve#getOddBitmap(long)} together with a rank directory:
+ * a cumulative count of set bits for every superblock of
+ * {@link #SUPERBLOCK_WORDS} words, and a count relative to the start of the
+ * superblock for every block of {@link #BLOCK_WORDS} words. The rank
+ * directory adds less than 5% to the memory used by the bitmap, so an index
+ * of the primes up to {@code 2^32} needs about 270MB.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_PrimeIndex {
+
+    /**
+     * The number of words in a block.
+     */
+    public static final int BLOCK_WORDS = 8;
+
+    /**
+     * The number of words in a superblock.
+     */
+    public static final int SUPERBLOCK_WORDS = 64;
+
+    /**
+     * The odd number bitmap.
+     */
+    protected final long[] bits;
+
+    /**
+     * The largest number represented.
+     */
+    protected final long limit;
+
+    /**
+     * The number of primes less than or equal to {@link #limit}.
+     */
+    protected final long count;
+
+    /**
+     * For each superblock, the number of set bits in all preceding
+     * superblocks.
+     */
+    private final long[] superCounts;
+
+    /**
+     * For each block, the number of set bits in the preceding blocks of the
+     * same superblock.
+     */
+    private final char[] blockCounts;
+
+    /**
+     * Creates a new instance by sieving the primes up to {@code limit}.
+     *
+     * @param limit The largest number represented. This must be less than
+     * {@code 2^37}.
+     * @param sieve The sieve to use.
+     */
+    public Math_PrimeIndex(long limit, Math_PrimeSieve sieve) {
+        this(sieve.getOddBitmap(limit), limit);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param bits The odd number bitmap of the primes up to {@code limit} as
+     * returned from {@link Math_PrimeSieve#getOddBitmap(long)}. This is not
+     * copied, so should not be modified.
+     * @param limit The largest number represented.
+     * @throws IllegalArgumentException If the length of {@code bits} does not
+     * correspond with {@code limit}.
+     */
+    public Math_PrimeIndex(long[] bits, long limit) {
+        if (bits.length != Math_PrimeSieve.getOddBitmapLength(limit)) {
+            throw new IllegalArgumentException("bits.length = " + bits.length
+                    + " is not the odd number bitmap length for limit = "
+                    + limit);
+        }
+        this.bits = bits;
+        this.limit = limit;
+        int nb = (bits.length + BLOCK_WORDS - 1) / BLOCK_WORDS;
+        int ns = (bits.length + SUPERBLOCK_WORDS - 1) / SUPERBLOCK_WORDS;
+        blockCounts = new char[nb];
+        superCounts = new long[ns];
+        long total = 0;
+        int relative = 0;
+        for (int i = 0; i < bits.length; i++) {
+            if (i % SUPERBLOCK_WORDS == 0) {
+                superCounts[i / SUPERBLOCK_WORDS] = total;
+                relative = 0;
+            }
+            if (i % BLOCK_WORDS == 0) {
+                blockCounts[i / BLOCK_WORDS] = (char) relative;
+            }
+            int c = Long.bitCount(bits[i]);
+            total += c;
+            relative += c;
+        }
+        count = limit < 2 ? 0L : total + 1L;
+    }
+
+    /**
+     * @return The largest number represented.
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The number of primes less than or equal to {@link #getLimit()}.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @param i The bit position.
+     * @return The number of set bits in positions {@code 0} to {@code i - 1}.
+     */
+    long rank(long i) {
+        int w = (int) (i >>> 6);
+        if (w >= bits.length) {
+            return count - 1;
+        }
+        long r = superCounts[w / SUPERBLOCK_WORDS] + blockCounts[w / BLOCK_WORDS];
+        for (int j = w - (w % BLOCK_WORDS); j < w; j++) {
+            r += Long.bitCount(bits[j]);
+        }
+        return r + Long.bitCount(bits[w] & ((1L << i) - 1L));
+    }
+
+    /**
+     * @param x The number to test.
+     * @return {@code true} iff {@code x} is prime.
+     * @throws IllegalArgumentException If {@code x > }{@link #getLimit()}.
+     */
+    public boolean isPrime(long x) {
+        checkLimit(x);
+        if (x == 2) {
+            return true;
+        }
+        if (x < 2 || (x & 1L) == 0) {
+            return false;
+        }
+        long i = x >>> 1;
+        return (bits[(int) (i >>> 6)] & (1L << i)) != 0;
+    }
+
+    /**
+     * The <a href="https://en.wikipedia.org/wiki/Prime-counting_function">prime
+     * counting function</a>.
+     *
+     * @param x The number up to which primes are counted.
+     * @return The number of primes less than or equal to {@code x}.
+     * @throws IllegalArgumentException If {@code x > }{@link #getLimit()}.
+     */
+    public long pi(long x) {
+        checkLimit(x);
+        if (x < 2) {
+            return 0L;
+        }
+        return 1L + rank(((x - 1) >>> 1) + 1L);
+    }
+
+    /**
+     * @param p The prime for which the index is returned.
+     * @return The index of {@code p} where {@code 2} is at index {@code 0},
+     * {@code 3} is at index {@code 1} etc., or {@code -1} if {@code p} is not
+     * prime.
+     * @throws IllegalArgumentException If {@code p > }{@link #getLimit()}.
+     */
+    public long indexOf(long p) {
+        if (!isPrime(p)) {
+            return -1L;
+        }
+        return pi(p) - 1L;
+    }
+
+    /**
+     * @param n The index of the prime to return where {@code 2} is at index
+     * {@code 0}, {@code 3} is at index {@code 1} etc.
+     * @return The prime at index {@code n}.
+     * @throws IndexOutOfBoundsException If {@code n < 0} or
+     * {@code n >= }{@link #size()}.
+     */
+    public long nthPrime(long n) {
+        if (n < 0 || n >= count) {
+            throw new IndexOutOfBoundsException("n = " + n + " is not in the "
+                    + "range [0, " + count + ")");
+        }
+        if (n == 0) {
+            return 2L;
+        }
+        long k = n - 1;
+        // Find the last superblock starting with fewer than k + 1 set bits.
+        int l = 0;
+        int h = superCounts.length - 1;
+        while (l < h) {
+            int m = (l + h + 1) >>> 1;
+            if (superCounts[m] <= k) {
+                l = m;
+            } else {
+                h = m - 1;
+            }
+        }
+        k -= superCounts[l];
+        // Find the block.
+        int b = l * (SUPERBLOCK_WORDS / BLOCK_WORDS);
+        int be = Math.min(blockCounts.length,
+                b + SUPERBLOCK_WORDS / BLOCK_WORDS);
+        while (b + 1 < be && blockCounts[b + 1] <= k) {
+            b++;
+        }
+        k -= blockCounts[b];
+        // Find the word.
+        int w = b * BLOCK_WORDS;
+        int c = Long.bitCount(bits[w]);
+        while (c <= k) {
+            k -= c;
+            w++;
+            c = Long.bitCount(bits[w]);
+        }
+        // Find the bit.
+        long word = bits[w];
+        for (int j = 0; j < k; j++) {
+            word &= word - 1;
+        }
+        long i = 64L * w + Long.numberOfTrailingZeros(word);
+        return 2L * i + 1L;
+    }
+
+    /**
+     * @param x The number to check.
+     * @throws IllegalArgumentException If {@code x > }{@link #getLimit()}.
+     */
+    private void checkLimit(long x) {
+        if (x > limit) {
+            throw new IllegalArgumentException("x = " + x + " > limit = "
+                    + limit);
+        }
+    }
+}
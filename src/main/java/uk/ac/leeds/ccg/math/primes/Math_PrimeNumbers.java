@@ -21,14 +21,11 @@ import java.io.InputStreamReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.BitSet;
-import java.util.HashMap;
-import uk.ac.leeds.ccg.io.IO_Utilities;
 
 /**
- * This class finds all prime numbers up to 2147483646 in about 20 seconds. It
- * is based on code posted on stackexchange:
+ * This class finds all prime numbers up to 2147483646 using
+ * {@link Math_PrimeSieve}. It was originally based on code posted on
+ * stackexchange:
  * https://codereview.stackexchange.com/questions/10823/yet-another-prime-number-generator/54942#54942
  *
  * @author Andy Turner
@@ -48,149 +45,81 @@ public class Math_PrimeNumbers {
     public static void main(String[] args) {
         try {
             new Math_PrimeNumbers().run();
-        } catch (IOException | ClassNotFoundException ex) {
+        } catch (IOException ex) {
             ex.printStackTrace(System.err);
         }
     }
 
     /**
-     * Creates a load of prime numbers and stores them in the data directory.
+     * Creates a load of prime numbers and stores them in a
+     * {@link Math_PrimeTable} in the data directory.
      *
      * @throws IOException If encountered.
-     * @throws ClassNotFoundException If encountered.
      */
-    @SuppressWarnings("unchecked")
-    public void run() throws IOException, ClassNotFoundException {
+    public void run() throws IOException {
         Path p = Paths.get(System.getProperty("user.dir"), "data");
         Files.createDirectories(p);
 
-        int maxSize;
+        long maxSize;
         //maxSize = 2147483646;
         //maxSize = 33554432;
         //maxSize = 67108864;
         maxSize = 268435456;
-        Path fBitSet = Paths.get(p.toString(), "PrimesUpTo_" + maxSize + "_BitSet.dat");
-        Path fPrimeList = Paths.get(p.toString(), "PrimesUpTo_" + maxSize + "_ArrayList_Integer.dat");
-        Path fPrimeIndexMap = Paths.get(p.toString(), "PrimesIndexMapUpTo_" + maxSize + "_HashMap_Integer_Integer.dat");
-        BitSet numbList;
-        ArrayList<Integer> primeList;
-        HashMap<Integer, Integer> primeIndexMap;
-        int maxPrime;
+        Path fPrimeTable = Paths.get(p.toString(), "PrimesUpTo_" + maxSize + "_PrimeTable.dat");
         String name;
-        int million = 1000000;
 
-        if (!Files.exists(fBitSet)) {
-            primeList = new ArrayList<>();
-            primeIndexMap = new HashMap<>();
-
-            int maxNumber;
-            int maxSearch;
-            int primeCount;
+        if (!Files.exists(fPrimeTable)) {
             long startTime = System.currentTimeMillis();
-            maxNumber = maxSize + 1;
-            maxSearch = (int) java.lang.Math.sqrt(maxNumber);
-            primeCount = 1;  //Start the count at 1 because 2 is prime and we'll start at 3
-            maxPrime = -1;
-            //use a BitSet array to maximize how many primes can be found
-            numbList = new BitSet(maxNumber);
-
-            numbList.set(0, maxNumber - 1, true);  //set all bits to true
-
-            numbList.clear(0);
-            numbList.clear(1);
-
-            //clear the even numbers (except 2, it's prime)
-            for (long k = 4; k <= maxSize; k += 2) {
-                numbList.clear((int) k);
-            }
-
-            // sieve out the non-primes
-            for (int k = 3; k < maxSearch; k += 2) {
-                if (numbList.get(k)) {
-                    sieveTheRest(k, numbList, maxSize);
-                }
-            }
-
-            int i = 0;
-
-            //Count the primes
-            for (int k = 3; k <= maxSize; k += 2) {
-                if (numbList.get(k)) {
-                    maxPrime = k;
-                    primeList.add(k);
-                    primeIndexMap.put(k, i);
-                    i++;
-                    primeCount += 1;
-                    if (primeCount % million == 0) {
-                        System.out.format("the " + ((primeCount / million < 100) ? " " : "")
-                                + ((primeCount / million < 10) ? " " : "")
-                                + primeCount / million + " millionth prime is: %,11d%n", maxPrime);
-                    }
-                }
-            }
-            IO_Utilities.writeObject(primeList, fPrimeList);
-            IO_Utilities.writeObject(primeIndexMap, fPrimeIndexMap);
-            IO_Utilities.writeObject(numbList, fBitSet);
-
-            System.out.format("array size         : %,11d%n", maxNumber);
-            //      System.out.format("prime count        : %,11d%n", primeCount);
-            System.out.format("prime count        : %,11d%n", numbList.cardinality());
-            System.out.format("largest prime found: %,11d%n", maxPrime);
+            long maxSearch = (long) java.lang.Math.sqrt(maxSize + 1);
+            long primeCount = Math_PrimeTable.write(fPrimeTable, maxSize,
+                    new Math_PrimeSieve());
+            System.out.format("array size         : %,11d%n", maxSize + 1);
+            System.out.format("prime count        : %,11d%n", primeCount);
             System.out.format("max factor         : %,11d%n \n", maxSearch);
 
             long stopTime = System.currentTimeMillis();
             System.out.println("That took " + (stopTime - startTime)
                     / 1000.0 + " seconds");
-        } else {
-            Object o = IO_Utilities.readObject(fPrimeList);
-            if (o instanceof ArrayList<?>) {
-                primeList = (ArrayList<Integer>) o;
-                //primeList = (ArrayList<Integer>) IO_Utilities.readObject(fPrimeList);
-                primeIndexMap = (HashMap<Integer, Integer>) IO_Utilities.readObject(
-                        fPrimeIndexMap);
-                numbList = (BitSet) IO_Utilities.readObject(fBitSet);
-                maxPrime = primeList.get(primeList.size() - 1);
-            } else {
-                throw new ClassCastException("Object read from " 
-                        + fPrimeList.toString()
-                        + " is not instanceof ArrayList<?>");
-            }
         }
-        while (getQuit().compareTo("-1") != 0) {
-            name = getTheNthPrime();
-            while (name.compareTo("-1") != 0) {
-                int n = Integer.parseInt(name);
-                if (n < numbList.cardinality()) {
-                    System.out.println("The " + n + "th prime is "
-                            + primeList.get(n));
-                } else {
-                    System.out.println("Sorry, not calculated the " + n + "th "
-                            + "prime yet, only calculated the first "
-                            + (numbList.cardinality() - 1) + " primes!");
-                }
+        try (Math_PrimeTable table = new Math_PrimeTable(fPrimeTable)) {
+            long maxPrime = table.nthPrime(table.size() - 1);
+            System.out.format("largest prime found: %,11d%n", maxPrime);
+            while (getQuit().compareTo("-1") != 0) {
                 name = getTheNthPrime();
-            }
+                while (name.compareTo("-1") != 0) {
+                    long n = Long.parseLong(name);
+                    if (n >= 0 && n < table.size()) {
+                        System.out.println("The " + n + "th prime is "
+                                + table.nthPrime(n)
+                                + " (2 is the 0th prime).");
+                    } else {
+                        System.out.println("Sorry, not calculated the " + n
+                                + "th prime yet, only calculated the first "
+                                + table.size() + " primes!");
+                    }
+                    name = getTheNthPrime();
+                }
 
-            name = getTestPrime();
-            while (name.compareTo("-1") != 0) {
-                int n = Integer.parseInt(name);
-                if (primeIndexMap.containsKey(n)) {
-                    System.out.println(n + " is the "
-                            + primeIndexMap.get(n).toString()
-                            + "th prime greater than 2.");
-                } else {
-                    if (n < maxPrime) {
-                        System.out.println(n + " is not prime.");
+                name = getTestPrime();
+                while (name.compareTo("-1") != 0) {
+                    long n = Long.parseLong(name);
+                    if (n <= table.getLimit()) {
+                        long i = table.indexOf(n);
+                        if (i >= 0) {
+                            System.out.println(n + " is the " + i
+                                    + "th prime (2 is the 0th prime).");
+                        } else {
+                            System.out.println(n + " is not prime.");
+                        }
                     } else {
                         System.out.println("Sorry, not calculated if " + n
                                 + " is prime, maximum prime found so far is "
                                 + maxPrime + "!");
                     }
+                    name = getTestPrime();
                 }
-                name = getTestPrime();
             }
         }
-
     }
 
     static String getTheNthPrime() {
@@ -228,15 +157,4 @@ public class Math_PrimeNumbers {
         }
         return bigNumber;
     }
-
-    /**
-     * @param myPrime The latest prime to be found.
-     * @param theBitSet The BitSet holding the prime flags
-     * @param maxSize The largest index in the BitSet
-     */
-    static void sieveTheRest(int myPrime, BitSet theBitSet, int maxSize) {
-        for (long k = myPrime * myPrime; k <= maxSize; k += 2 * myPrime) {
-            theBitSet.clear((int) k);
-        }
-    }
 }
@@ -0,0 +1,472 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.primes;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.LongStream;
+
+/**
+ * A segmented
+ * <a href="https://en.wikipedia.org/wiki/Sieve_of_Eratosthenes">Sieve of
+ * Eratosthenes</a> for finding prime numbers.
+ *
+ * Only odd numbers are represented: bit {@code i} of a sieved bitmap
+ * represents the odd number {@code origin + 2i}. The sieving is done in
+ * segments of {@link #SEGMENT_WORDS} words (32KB) so that each segment fits in
+ * a typical L1 data cache, and segments are sieved in parallel using a
+ * {@link ForkJoinPool}. Numbers are indexed using {@code long} values, so
+ * primes greater than {@link Integer#MAX_VALUE} can be found. The largest
+ * number that can be sieved is {@link #MAX_LIMIT}.
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_PrimeSieve {
+
+    /**
+     * The number of {@code long} words in a segment. Each segment covers
+     * {@code 128 * SEGMENT_WORDS} consecutive numbers.
+     */
+    public static final int SEGMENT_WORDS = 4096;
+
+    /**
+     * The number of consecutive numbers covered by a segment.
+     */
+    public static final long SEGMENT_SPAN = 128L * SEGMENT_WORDS;
+
+    /**
+     * The largest number that can be sieved. This is {@code 2^62} so that all
+     * sieving primes are less than or equal to {@link Integer#MAX_VALUE}.
+     */
+    public static final long MAX_LIMIT = 1L << 62;
+
+    /**
+     * The pool used to sieve segments in parallel.
+     */
+    protected final ForkJoinPool pool;
+
+    /**
+     * The odd primes less than or equal to {@link #basePrimesLimit} used for
+     * sieving. This is grown as needed.
+     */
+    private volatile int[] basePrimes;
+
+    /**
+     * The number up to which {@link #basePrimes} have been found.
+     */
+    private volatile long basePrimesLimit;
+
+    /**
+     * Create a new instance that uses {@link ForkJoinPool#commonPool()}.
+     */
+    public Math_PrimeSieve() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param pool The pool used for sieving segments in parallel.
+     */
+    public Math_PrimeSieve(ForkJoinPool pool) {
+        this.pool = pool;
+        this.basePrimes = new int[0];
+        this.basePrimesLimit = 2;
+    }
+
+    /**
+     * Find all the prime numbers {@code p} such that {@code lo <= p <= hi}.
+     *
+     * @param lo The lower bound (inclusive).
+     * @param hi The upper bound (inclusive).
+     * @return The primes in the range in ascending order.
+     * @throws IllegalArgumentException If {@code hi > }{@link #MAX_LIMIT}.
+     */
+    public long[] primesInRange(long lo, long hi) {
+        if (lo < 2) {
+            lo = 2;
+        }
+        if (hi < lo) {
+            return new long[0];
+        }
+        checkLimit(hi);
+        getBasePrimes(hi);
+        return pool.invoke(new PrimesTask(lo, hi, 0, getSegmentCount(lo, hi)));
+    }
+
+    /**
+     * Find all the prime numbers {@code p} such that {@code lo <= p <= hi} as
+     * a stream. Segments are sieved lazily as the stream is consumed, so this
+     * is suitable for ranges with more primes than fit in an array. The
+     * stream may be made parallel.
+     *
+     * @param lo The lower bound (inclusive).
+     * @param hi The upper bound (inclusive).
+     * @return The primes in the range in ascending order.
+     * @throws IllegalArgumentException If {@code hi > }{@link #MAX_LIMIT}.
+     */
+    public LongStream primes(long lo, long hi) {
+        long l = Math.max(lo, 2);
+        if (hi < l) {
+            return LongStream.empty();
+        }
+        checkLimit(hi);
+        getBasePrimes(hi);
+        return LongStream.range(0, getSegmentCount(l, hi))
+                .flatMap(s -> LongStream.of(segmentPrimes(l, hi, s)));
+    }
+
+    /**
+     * Count the prime numbers {@code p} such that {@code lo <= p <= hi}.
+     *
+     * @param lo The lower bound (inclusive).
+     * @param hi The upper bound (inclusive).
+     * @return The number of primes in the range.
+     * @throws IllegalArgumentException If {@code hi > }{@link #MAX_LIMIT}.
+     */
+    public long countPrimes(long lo, long hi) {
+        if (lo < 2) {
+            lo = 2;
+        }
+        if (hi < lo) {
+            return 0L;
+        }
+        checkLimit(hi);
+        getBasePrimes(hi);
+        return pool.invoke(new CountTask(lo, hi, 0, getSegmentCount(lo, hi)));
+    }
+
+    /**
+     * Sieve all the odd numbers up to {@code n} into a bitmap. Bit {@code i}
+     * of the result (bit {@code i & 63} of word {@code i >>> 6}) is set iff
+     * {@code 2i + 1} is prime, so the number {@code 2} is not represented and
+     * bit 0 (representing {@code 1}) is never set.
+     *
+     * @param n The largest number represented. This must be less than
+     * {@code 2^37}.
+     * @return A bitmap of the odd primes less than or equal to {@code n}.
+     * @throws IllegalArgumentException If {@code n} is too large for the
+     * bitmap to be held in a single array.
+     */
+    public long[] getOddBitmap(long n) {
+        long nw = getOddBitmapLength(n);
+        if (nw > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("n = " + n + " is too large "
+                    + "for an odd number bitmap held in a single array.");
+        }
+        long[] r = new long[(int) nw];
+        if (n < 3) {
+            return r;
+        }
+        getBasePrimes(n);
+        pool.invoke(new BitmapTask(r, n, 0, r.length));
+        return r;
+    }
+
+    /**
+     * @param n The largest number represented.
+     * @return The number of {@code long} words in the odd number bitmap for
+     * numbers up to {@code n}.
+     */
+    public static long getOddBitmapLength(long n) {
+        if (n < 1) {
+            return 0L;
+        }
+        return (((n - 1) >>> 1) >>> 6) + 1L;
+    }
+
+    /**
+     * @param hi The upper bound to check.
+     * @throws IllegalArgumentException If {@code hi > }{@link #MAX_LIMIT}.
+     */
+    private static void checkLimit(long hi) {
+        if (hi > MAX_LIMIT) {
+            throw new IllegalArgumentException("hi = " + hi + " > MAX_LIMIT = "
+                    + MAX_LIMIT);
+        }
+    }
+
+    /**
+     * @param lo The lower bound (inclusive) which is at least 2.
+     * @param hi The upper bound (inclusive).
+     * @return The number of segments covering {@code lo} to {@code hi}.
+     */
+    private static long getSegmentCount(long lo, long hi) {
+        return ((hi - lo) / SEGMENT_SPAN) + 1L;
+    }
+
+    /**
+     * Sieves segment {@code s} of the range {@code lo} to {@code hi}.
+     *
+     * @param lo The lower bound (inclusive) which is at least 2.
+     * @param hi The upper bound (inclusive).
+     * @param s The segment index.
+     * @return The primes in the segment in ascending order.
+     */
+    long[] segmentPrimes(long lo, long hi, long s) {
+        long slo = lo + s * SEGMENT_SPAN;
+        long shi = Math.min(hi, slo + SEGMENT_SPAN - 1);
+        long origin = slo | 1L;
+        long[] w = new long[SEGMENT_WORDS];
+        int nw = 0;
+        if (origin <= shi) {
+            nw = (int) ((((shi - origin) >>> 1) >>> 6) + 1);
+            sieve(origin, shi, w, 0, nw, basePrimes);
+        }
+        int count = 0;
+        for (int i = 0; i < nw; i++) {
+            count += Long.bitCount(w[i]);
+        }
+        boolean two = slo <= 2 && 2 <= shi;
+        long[] r = new long[two ? count + 1 : count];
+        int j = 0;
+        if (two) {
+            r[j++] = 2L;
+        }
+        for (int i = 0; i < nw; i++) {
+            long word = w[i];
+            long base = origin + 128L * i;
+            while (word != 0) {
+                r[j++] = base + 2L * Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Sieves the odd numbers represented by words {@code from} (inclusive) to
+     * {@code to} (exclusive) of {@code w}, where bit {@code i} represents
+     * {@code origin + 2i}. On return a bit is set iff the number it represents
+     * is prime and less than or equal to {@code limit}.
+     *
+     * @param origin The odd number represented by bit 0 of word 0.
+     * @param limit The largest number to retain.
+     * @param w The words to sieve.
+     * @param from The index of the first word to sieve.
+     * @param to The index after the last word to sieve.
+     * @param primes The odd sieving primes which must include all those less
+     * than or equal to the square root of the largest number represented.
+     */
+    static void sieve(long origin, long limit, long[] w, int from, int to,
+            int[] primes) {
+        long lo = origin + 128L * from;
+        long hi = Math.min(limit, lo + 128L * (to - from) - 2L);
+        if (hi < lo) {
+            Arrays.fill(w, from, to, 0L);
+            return;
+        }
+        Arrays.fill(w, from, to, -1L);
+        // Clear bits beyond limit.
+        long nbits = ((hi - origin) >>> 1) + 1L;
+        long end = 64L * to;
+        if (nbits < end) {
+            int k = (int) (nbits >>> 6);
+            w[k] &= (1L << nbits) - 1L;
+            Arrays.fill(w, k + 1, to, 0L);
+        }
+        if (lo == 1L) {
+            w[from] &= ~1L;
+        }
+        for (int p : primes) {
+            long pp = (long) p * p;
+            if (pp > hi) {
+                break;
+            }
+            long m;
+            if (pp >= lo) {
+                m = pp;
+            } else {
+                m = ((lo + p - 1) / p) * p;
+                if ((m & 1L) == 0L) {
+                    m += p;
+                }
+            }
+            for (long i = (m - origin) >>> 1; i < end; i += p) {
+                w[(int) (i >>> 6)] &= ~(1L << i);
+            }
+        }
+    }
+
+    /**
+     * Ensures {@link #basePrimes} includes all the odd primes less than or
+     * equal to the square root of {@code n}.
+     *
+     * @param n The number up to which sieving is to be done.
+     * @return {@link #basePrimes}.
+     */
+    int[] getBasePrimes(long n) {
+        long s = (long) Math.sqrt((double) n);
+        while (s * s > n) {
+            s--;
+        }
+        while ((s + 1) * (s + 1) <= n) {
+            s++;
+        }
+        if (s <= basePrimesLimit) {
+            return basePrimes;
+        }
+        synchronized (this) {
+            if (s > basePrimesLimit) {
+                int[] sp = getSmallPrimes((int) Math.sqrt((double) s) + 1);
+                long[] w = new long[(int) getOddBitmapLength(s)];
+                sieve(1L, s, w, 0, w.length, sp);
+                int count = 0;
+                for (long word : w) {
+                    count += Long.bitCount(word);
+                }
+                int[] r = new int[count];
+                int j = 0;
+                for (int i = 0; i < w.length; i++) {
+                    long word = w[i];
+                    while (word != 0) {
+                        r[j++] = (int) (1L + 128L * i + 2L
+                                * Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+                basePrimes = r;
+                basePrimesLimit = s;
+            }
+            return basePrimes;
+        }
+    }
+
+    /**
+     * A simple sieve for the small odd primes used to find the sieving
+     * primes.
+     *
+     * @param n The upper bound (inclusive).
+     * @return The odd primes less than or equal to {@code n}.
+     */
+    static int[] getSmallPrimes(int n) {
+        boolean[] composite = new boolean[n + 1];
+        int[] r = new int[n + 1];
+        int j = 0;
+        for (int i = 3; i <= n; i += 2) {
+            if (!composite[i]) {
+                r[j++] = i;
+                for (long k = (long) i * i; k <= n; k += 2 * i) {
+                    composite[(int) k] = true;
+                }
+            }
+        }
+        return Arrays.copyOf(r, j);
+    }
+
+    /**
+     * For finding the primes in a range of segments in parallel.
+     */
+    private class PrimesTask extends RecursiveTask<long[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long lo;
+        private final long hi;
+        private final long s0;
+        private final long s1;
+
+        PrimesTask(long lo, long hi, long s0, long s1) {
+            this.lo = lo;
+            this.hi = hi;
+            this.s0 = s0;
+            this.s1 = s1;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (s1 - s0 == 1) {
+                return segmentPrimes(lo, hi, s0);
+            }
+            long mid = (s0 + s1) >>> 1;
+            PrimesTask left = new PrimesTask(lo, hi, s0, mid);
+            left.fork();
+            long[] b = new PrimesTask(lo, hi, mid, s1).compute();
+            long[] a = left.join();
+            long[] r = Arrays.copyOf(a, Math.addExact(a.length, b.length));
+            System.arraycopy(b, 0, r, a.length, b.length);
+            return r;
+        }
+    }
+
+    /**
+     * For counting the primes in a range of segments in parallel.
+     */
+    private class CountTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long lo;
+        private final long hi;
+        private final long s0;
+        private final long s1;
+
+        CountTask(long lo, long hi, long s0, long s1) {
+            this.lo = lo;
+            this.hi = hi;
+            this.s0 = s0;
+            this.s1 = s1;
+        }
+
+        @Override
+        protected Long compute() {
+            if (s1 - s0 == 1) {
+                return (long) segmentPrimes(lo, hi, s0).length;
+            }
+            long mid = (s0 + s1) >>> 1;
+            CountTask left = new CountTask(lo, hi, s0, mid);
+            left.fork();
+            long b = new CountTask(lo, hi, mid, s1).compute();
+            return left.join() + b;
+        }
+    }
+
+    /**
+     * For sieving a range of words of an odd number bitmap in parallel. Each
+     * task writes to a disjoint range of words.
+     */
+    private class BitmapTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] w;
+        private final long n;
+        private final int from;
+        private final int to;
+
+        BitmapTask(long[] w, long n, int from, int to) {
+            this.w = w;
+            this.n = n;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEGMENT_WORDS) {
+                sieve(1L, n, w, from, to, basePrimes);
+                return;
+            }
+            int segments = (to - from + SEGMENT_WORDS - 1) / SEGMENT_WORDS;
+            int mid = from + (segments >>> 1) * SEGMENT_WORDS;
+            invokeAll(new BitmapTask(w, n, from, mid),
+                    new BitmapTask(w, n, mid, to));
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.primes;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A table of prime numbers stored in a compact binary file that is memory
+ * mapped using {@link FileChannel#map} so that lookups read directly from the
+ * file without deserialisation.
+ *
+ * The file is little endian and comprises:
+ * <ol>
+ * <li>A header of {@link #HEADER_BYTES} bytes.</li>
+ * <li>An odd number bitmap as produced by
+ * {@link Math_PrimeSieve#getOddBitmap(long)}.</li>
+ * <li>The primes in ascending order (starting with {@code 2}) packed as
+ * unsigned 32 bit integers if the limit is less than {@code 2^32}, otherwise
+ * as 64 bit integers.</li>
+ * </ol>
+ *
+ * @author Andy Turner
+ * @version 1.0
+ */
+public class Math_PrimeTable implements Closeable {
+
+    /**
+     * Identifies the file format.
+     */
+    public static final int MAGIC = 0x43434750;
+
+    /**
+     * The file format version.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The number of bytes in the header.
+     */
+    public static final int HEADER_BYTES = 64;
+
+    /**
+     * The maximum number of bytes mapped in a single buffer.
+     */
+    private static final long CHUNK_BYTES = 1L << 30;
+
+    /**
+     * The channel for the file.
+     */
+    protected final FileChannel fc;
+
+    /**
+     * The largest number represented in the table.
+     */
+    protected final long limit;
+
+    /**
+     * The number of primes in the table.
+     */
+    protected final long count;
+
+    /**
+     * The number of bytes used for each prime (4 or 8).
+     */
+    protected final int primeBytes;
+
+    /**
+     * The mapped bitmap.
+     */
+    private final MappedByteBuffer[] bitmap;
+
+    /**
+     * The mapped primes.
+     */
+    private final MappedByteBuffer[] primes;
+
+    /**
+     * Opens an existing table.
+     *
+     * @param p The path of the file written using
+     * {@link #write(java.nio.file.Path, long, Math_PrimeSieve)}.
+     * @throws IOException If encountered or if the file is not a prime table.
+     */
+    public Math_PrimeTable(Path p) throws IOException {
+        fc = FileChannel.open(p, StandardOpenOption.READ);
+        try {
+            ByteBuffer h = ByteBuffer.allocate(HEADER_BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            while (h.hasRemaining()) {
+                if (fc.read(h) < 0) {
+                    throw new IOException(p + " is not a prime table.");
+                }
+            }
+            h.flip();
+            if (h.getInt() != MAGIC) {
+                throw new IOException(p + " is not a prime table.");
+            }
+            int version = h.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported prime table version "
+                        + version + " in " + p);
+            }
+            limit = h.getLong();
+            count = h.getLong();
+            primeBytes = h.getInt();
+            h.getInt();
+            long bitmapWords = h.getLong();
+            bitmap = map(fc, HEADER_BYTES, bitmapWords * 8L);
+            primes = map(fc, HEADER_BYTES + bitmapWords * 8L,
+                    count * primeBytes);
+        } catch (IOException | RuntimeException e) {
+            fc.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps a region of a file in chunks of at most {@link #CHUNK_BYTES}.
+     *
+     * @param fc The channel.
+     * @param offset The offset of the region in the file.
+     * @param size The number of bytes in the region.
+     * @return The mapped buffers.
+     * @throws IOException If encountered.
+     */
+    private static MappedByteBuffer[] map(FileChannel fc, long offset,
+            long size) throws IOException {
+        int n = (int) ((size + CHUNK_BYTES - 1) / CHUNK_BYTES);
+        MappedByteBuffer[] r = new MappedByteBuffer[n];
+        for (int i = 0; i < n; i++) {
+            long o = i * CHUNK_BYTES;
+            r[i] = fc.map(FileChannel.MapMode.READ_ONLY, offset + o,
+                    Math.min(CHUNK_BYTES, size - o));
+            r[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return r;
+    }
+
+    /**
+     * Sieves the primes up to {@code n} and writes them to a table file.
+     *
+     * @param p The path of the file to write.
+     * @param n The largest number represented. This must be less than
+     * {@code 2^37}.
+     * @param sieve The sieve used to find the primes.
+     * @return The number of primes written.
+     * @throws IOException If encountered.
+     */
+    public static long write(Path p, long n, Math_PrimeSieve sieve)
+            throws IOException {
+        long[] w = sieve.getOddBitmap(n);
+        int pb = n < (1L << 32) ? 4 : 8;
+        long c = n < 2 ? 0L : 1L;
+        for (long word : w) {
+            c += Long.bitCount(word);
+        }
+        try (FileChannel out = FileChannel.open(p, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ByteBuffer b = ByteBuffer.allocate(1 << 20)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            b.putInt(MAGIC);
+            b.putInt(VERSION);
+            b.putLong(n);
+            b.putLong(c);
+            b.putInt(pb);
+            b.putInt(0);
+            b.putLong(w.length);
+            b.position(HEADER_BYTES);
+            for (long word : w) {
+                if (!b.hasRemaining()) {
+                    drain(out, b);
+                }
+                b.putLong(word);
+            }
+            if (c > 0) {
+                b = put(out, b, 2L, pb);
+            }
+            for (int i = 0; i < w.length; i++) {
+                long word = w[i];
+                long base = 1L + 128L * i;
+                while (word != 0) {
+                    b = put(out, b, base + 2L
+                            * Long.numberOfTrailingZeros(word), pb);
+                    word &= word - 1;
+                }
+            }
+            drain(out, b);
+        }
+        return c;
+    }
+
+    /**
+     * Puts a prime into {@code b} draining it first if it is full.
+     */
+    private static ByteBuffer put(FileChannel out, ByteBuffer b, long prime,
+            int pb) throws IOException {
+        if (b.remaining() < pb) {
+            drain(out, b);
+        }
+        if (pb == 4) {
+            b.putInt((int) prime);
+        } else {
+            b.putLong(prime);
+        }
+        return b;
+    }
+
+    /**
+     * Writes out and clears {@code b}.
+     */
+    private static void drain(FileChannel out, ByteBuffer b)
+            throws IOException {
+        b.flip();
+        while (b.hasRemaining()) {
+            out.write(b);
+        }
+        b.clear();
+    }
+
+    /**
+     * @return The largest number represented in the table.
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The number of primes in the table.
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * @param n The index of the prime to return where {@code 2} is at index
+     * {@code 0}, {@code 3} is at index {@code 1} etc.
+     * @return The prime at index {@code n}.
+     * @throws IndexOutOfBoundsException If {@code n < 0} or
+     * {@code n >= }{@link #size()}.
+     */
+    public long nthPrime(long n) {
+        if (n < 0 || n >= count) {
+            throw new IndexOutOfBoundsException("n = " + n + " is not in the "
+                    + "range [0, " + count + ")");
+        }
+        return getPrime(n);
+    }
+
+    /**
+     * @param n The index.
+     * @return The prime at index {@code n}.
+     */
+    private long getPrime(long n) {
+        long o = n * primeBytes;
+        MappedByteBuffer b = primes[(int) (o / CHUNK_BYTES)];
+        int i = (int) (o % CHUNK_BYTES);
+        if (primeBytes == 4) {
+            return Integer.toUnsignedLong(b.getInt(i));
+        }
+        return b.getLong(i);
+    }
+
+    /**
+     * @param x The number to test.
+     * @return {@code true} iff {@code x} is prime.
+     * @throws IllegalArgumentException If {@code x > }{@link #getLimit()}.
+     */
+    public boolean isPrime(long x) {
+        if (x > limit) {
+            throw new IllegalArgumentException("x = " + x + " > limit = "
+                    + limit);
+        }
+        if (x == 2) {
+            return true;
+        }
+        if (x < 2 || (x & 1L) == 0) {
+            return false;
+        }
+        long i = x >>> 1;
+        long o = (i >>> 6) * 8L;
+        long word = bitmap[(int) (o / CHUNK_BYTES)]
+                .getLong((int) (o % CHUNK_BYTES));
+        return (word & (1L << i)) != 0;
+    }
+
+    /**
+     * @param p The prime for which the index is returned.
+     * @return The index of {@code p} where {@code 2} is at index {@code 0},
+     * {@code 3} is at index {@code 1} etc., or {@code -1} if {@code p} is not
+     * prime.
+     * @throws IllegalArgumentException If {@code p > }{@link #getLimit()}.
+     */
+    public long indexOf(long p) {
+        if (!isPrime(p)) {
+            return -1L;
+        }
+        long l = 0;
+        long h = count - 1;
+        while (l <= h) {
+            long m = (l + h) >>> 1;
+            long v = getPrime(m);
+            if (v < p) {
+                l = m + 1;
+            } else if (v > p) {
+                h = m - 1;
+            } else {
+                return m;
+            }
+        }
+        return -1L;
+    }
+
+    /**
+     * Reads the bitmap into memory to create an index that answers
+     * {@link Math_PrimeIndex#pi(long)} and
+     * {@link Math_PrimeIndex#indexOf(long)} in constant time.
+     *
+     * @return An in memory index of the primes in this table.
+     */
+    public Math_PrimeIndex getIndex() {
+        long[] w = new long[(int) Math_PrimeSieve.getOddBitmapLength(limit)];
+        int j = 0;
+        for (MappedByteBuffer b : bitmap) {
+            LongBuffer lb = b.duplicate().order(ByteOrder.LITTLE_ENDIAN)
+                    .asLongBuffer();
+            int n = lb.remaining();
+            lb.get(w, j, n);
+            j += n;
+        }
+        return new Math_PrimeIndex(w, limit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fc.close();
+    }
+}
@@ -18,14 +18,27 @@ package uk.ac.leeds.ccg.math.random;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigInteger;
+import uk.ac.leeds.ccg.math.arithmetic.Math_PowersOfTen;
 
 /**
  * For dealing with numbers.
  *
+ * For parallel use, {@link #getSplittableGenerator()} can be split into
+ * independent generators, one for each task. Splitting in the same order
+ * gives the same generators, so results are reproducible however the tasks
+ * are scheduled, and there is no contention as no generator is shared. The
+ * parallel bulk methods split one generator for each {@link #CHUNK_SIZE}
+ * values, so their results do not depend on the number of threads.
+ *
  * @author Andy Turner
  * @version 1.0
  */
@@ -53,7 +66,24 @@ public class Math_Random implements Serializable {
      * initialise randoms.
      */
     long seedIncrement;
-    
+
+    /**
+     * The name of the algorithm of {@link #generator}.
+     */
+    public static final String GENERATOR_ALGORITHM = "L64X128MixRandom";
+
+    /**
+     * The number of values generated by each generator split from a
+     * {@link SplittableGenerator} in the parallel bulk methods.
+     */
+    public static final int CHUNK_SIZE = 4096;
+
+    /**
+     * For {@link #getRandomGenerator()}. This is initialised using
+     * {@link #initialSeed} when first needed.
+     */
+    protected transient SplittableGenerator generator;
+
     /**
      * Initialises or reinitialise {@link #randoms}.
      */
@@ -139,6 +169,51 @@ public class Math_Random implements Serializable {
         return randoms;
     }
 
+    /**
+     * @return {@link #generator} initialised with {@link #initialSeed} using
+     * the {@link #GENERATOR_ALGORITHM} if it is {@code null}.
+     */
+    public RandomGenerator getRandomGenerator() {
+        return getSplittableGenerator();
+    }
+
+    /**
+     * @return {@link #generator} initialised with {@link #initialSeed} using
+     * the {@link #GENERATOR_ALGORITHM} if it is {@code null}.
+     */
+    public SplittableGenerator getSplittableGenerator() {
+        if (generator == null) {
+            generator = RandomGeneratorFactory.<SplittableGenerator>of(
+                    GENERATOR_ALGORITHM).create(initialSeed);
+        }
+        return generator;
+    }
+
+    /**
+     * Splits {@code n} generators from {@link #getSplittableGenerator()}.
+     *
+     * @param n The number of generators.
+     * @return An array of independent generators, e.g. one for each task.
+     */
+    public SplittableGenerator[] split(int n) {
+        return split(getSplittableGenerator(), n);
+    }
+
+    /**
+     * Splits {@code n} generators from {@code g} in order.
+     *
+     * @param g The generator to split.
+     * @param n The number of generators.
+     * @return An array of independent generators, e.g. one for each task.
+     */
+    public static SplittableGenerator[] split(SplittableGenerator g, int n) {
+        SplittableGenerator[] r = new SplittableGenerator[n];
+        for (int i = 0; i < n; i++) {
+            r[i] = g.split();
+        }
+        return r;
+    }
+
     /**
      * @return {@link #randoms}.
      */
@@ -163,7 +238,9 @@ public class Math_Random implements Serializable {
     }
 
     /**
-     * Provided for convenience.
+     * Provided for convenience. This uses a {@link Random} for each digit and
+     * gives the same sequences as earlier versions.
+     * {@link #getRandomBigDecimal(RandomGenerator, int)} is much faster.
      *
      * @param oom The
      * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
@@ -215,6 +292,7 @@ public class Math_Random implements Serializable {
      * @param u The largest value to return.
      * @param mbi The Math_BigInteger.
      * @return A pseudorandom number in the range [l, u]
+     * @see #getRandom(RandomGenerator, int, BigDecimal, BigDecimal)
      */
     public BigDecimal getRandom(int oom, BigDecimal l, BigDecimal u, Math_BigInteger mbi) {
         //BigDecimal resolution = new BigDecimal(BigInteger.ONE,decimalPlaces);
@@ -227,6 +305,10 @@ public class Math_Random implements Serializable {
     
     /**
      * For getting a random number between {@code 0} and {@code upperLimit}.
+     * This sums a random number for each term in the decomposition of
+     * {@code upperLimit} into powers of two and gives the same sequences as
+     * earlier versions. {@link #getRandom(RandomGenerator, BigInteger)} is
+     * much faster.
      *
      * @param mbi The Math_BigInteger.
      * @param upperLimit The largest number that can be returned.
@@ -318,4 +400,187 @@ public class Math_Random implements Serializable {
         }
         return r;
     }
+
+    /**
+     * For getting a uniformly distributed random number between {@code 0} and
+     * {@code upperLimit} inclusive. If {@code upperLimit} fits in fewer than
+     * 63 bits then {@link RandomGenerator#nextLong(long)} is used. Otherwise
+     * as many random bits as there are in {@code upperLimit} are drawn from
+     * {@code g} until they make a number no greater than {@code upperLimit}.
+     * Each draw is accepted with a probability of more than a half.
+     *
+     * @param g The generator, e.g. {@link #getRandomGenerator()}.
+     * @param upperLimit The largest number that can be returned.
+     * @return A random integer between 0 and upperLimit inclusive.
+     * @throws IllegalArgumentException If {@code upperLimit < 0}.
+     */
+    public static BigInteger getRandom(RandomGenerator g,
+            BigInteger upperLimit) {
+        if (upperLimit.signum() == -1) {
+            throw new IllegalArgumentException("upperLimit < 0");
+        }
+        int n = upperLimit.bitLength();
+        if (n < 63) {
+            return BigInteger.valueOf(g.nextLong(upperLimit.longValue() + 1L));
+        }
+        byte[] b = new byte[(n + 7) / 8];
+        int mask = (1 << (n - 8 * (b.length - 1))) - 1;
+        while (true) {
+            g.nextBytes(b);
+            b[0] &= (byte) mask;
+            BigInteger r = new BigInteger(1, b);
+            if (r.compareTo(upperLimit) <= 0) {
+                return r;
+            }
+        }
+    }
+
+    /**
+     * For getting a uniformly distributed random number in the range
+     * {@code [0, 1)} with {@code -oom} decimal places. The unscaled value is
+     * drawn using {@link #getRandom(RandomGenerator, BigInteger)}.
+     *
+     * @param g The generator, e.g. {@link #getRandomGenerator()}.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> of the smallest possible difference between the numbers
+     * returned. This should be negative.
+     * @return A random number in the range {@code [0, 1)}.
+     */
+    public static BigDecimal getRandomBigDecimal(RandomGenerator g, int oom) {
+        if (oom >= 0) {
+            return BigDecimal.ZERO;
+        }
+        return getRandomBigDecimal(g, getUnscaledLimit(oom), -oom);
+    }
+
+    /**
+     * @param oom The order of magnitude which must be negative.
+     * @return {@code 10^-oom - 1}
+     */
+    private static BigInteger getUnscaledLimit(int oom) {
+        return Math_PowersOfTen.bigInteger(-oom).subtract(BigInteger.ONE);
+    }
+
+    /**
+     * @param g The generator.
+     * @param limit The largest unscaled value.
+     * @param scale The scale.
+     * @return A random number with an unscaled value in the range
+     * {@code [0, limit]} and {@code scale}.
+     */
+    private static BigDecimal getRandomBigDecimal(RandomGenerator g,
+            BigInteger limit, int scale) {
+        return new BigDecimal(getRandom(g, limit), scale).stripTrailingZeros();
+    }
+
+    /**
+     * For getting {@code n} numbers each as from
+     * {@link #getRandomBigDecimal(RandomGenerator, int)}.
+     *
+     * @param g The generator.
+     * @param n The number of numbers.
+     * @param oom The order of magnitude of the smallest possible difference
+     * between the numbers returned. This should be negative.
+     * @return An array of {@code n} random numbers in the range
+     * {@code [0, 1)}.
+     */
+    public static BigDecimal[] getRandomBigDecimals(RandomGenerator g, int n,
+            int oom) {
+        BigDecimal[] r = new BigDecimal[n];
+        if (oom >= 0) {
+            Arrays.fill(r, BigDecimal.ZERO);
+            return r;
+        }
+        BigInteger limit = getUnscaledLimit(oom);
+        for (int i = 0; i < n; i++) {
+            r[i] = getRandomBigDecimal(g, limit, -oom);
+        }
+        return r;
+    }
+
+    /**
+     * As {@link #getRandomBigDecimals(RandomGenerator, int, int)} but in
+     * parallel using a generator split from {@code g} for each
+     * {@link #CHUNK_SIZE} numbers. The result only depends on the state of
+     * {@code g}.
+     *
+     * @param g The generator to split.
+     * @param n The number of numbers.
+     * @param oom The order of magnitude of the smallest possible difference
+     * between the numbers returned. This should be negative.
+     * @return An array of {@code n} random numbers in the range
+     * {@code [0, 1)}.
+     */
+    public static BigDecimal[] getRandomBigDecimalsParallel(
+            SplittableGenerator g, int n, int oom) {
+        BigDecimal[] r = new BigDecimal[n];
+        if (oom >= 0) {
+            Arrays.fill(r, BigDecimal.ZERO);
+            return r;
+        }
+        BigInteger limit = getUnscaledLimit(oom);
+        SplittableGenerator[] gs = split(g, (n + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        IntStream.range(0, gs.length).parallel().forEach(c -> {
+            int hi = (int) Math.min(n, (long) (c + 1) * CHUNK_SIZE);
+            for (int i = c * CHUNK_SIZE; i < hi; i++) {
+                r[i] = getRandomBigDecimal(gs[c], limit, -oom);
+            }
+        });
+        return r;
+    }
+
+    /**
+     * Fills {@code a} with uniformly distributed random numbers in the range
+     * {@code [0, 1)} from {@code g}.
+     *
+     * @param g The generator.
+     * @param a The array to fill.
+     */
+    public static void nextDoubles(RandomGenerator g, double[] a) {
+        for (int i = 0; i < a.length; i++) {
+            a[i] = g.nextDouble();
+        }
+    }
+
+    /**
+     * As {@link #nextDoubles(RandomGenerator, double[])} but in parallel using
+     * a generator split from {@code g} for each {@link #CHUNK_SIZE} numbers.
+     * The result only depends on the state of {@code g}.
+     *
+     * @param g The generator to split.
+     * @param a The array to fill.
+     */
+    public static void nextDoublesParallel(SplittableGenerator g, double[] a) {
+        SplittableGenerator[] gs = split(g, (a.length + CHUNK_SIZE - 1)
+                / CHUNK_SIZE);
+        IntStream.range(0, gs.length).parallel().forEach(c -> {
+            int hi = (int) Math.min(a.length, (long) (c + 1) * CHUNK_SIZE);
+            for (int i = c * CHUNK_SIZE; i < hi; i++) {
+                a[i] = gs[c].nextDouble();
+            }
+        });
+    }
+
+    /**
+     * For getting a uniformly distributed random number in the range
+     * {@code [l, u]} which is a multiple of {@code 10^oom} more than
+     * {@code l}. The unscaled value is drawn using
+     * {@link #getRandom(RandomGenerator, BigInteger)}.
+     *
+     * @param g The generator, e.g. {@link #getRandomGenerator()}.
+     * @param oom The
+     * <a href="https://en.wikipedia.org/wiki/Order_of_magnitude#Uses">Order of
+     * Magnitude</a> of the smallest possible difference between the numbers
+     * returned.
+     * @param l The smallest value to return.
+     * @param u The largest value to return.
+     * @return A random number in the range {@code [l, u]}.
+     */
+    public static BigDecimal getRandom(RandomGenerator g, int oom,
+            BigDecimal l, BigDecimal u) {
+        BigInteger range = u.subtract(l).scaleByPowerOfTen(-oom)
+                .toBigInteger();
+        return new BigDecimal(getRandom(g, range), -oom).add(l);
+    }
 }
@@ -24,5 +24,6 @@ module uk.ac.leeds.ccg.math.test {
     opens uk.ac.leeds.ccg.math.geometry.test to org.junit.platform.commons;
     opens uk.ac.leeds.ccg.math.matrices.test to org.junit.platform.commons;
     opens uk.ac.leeds.ccg.math.number.test to org.junit.platform.commons;
+    opens uk.ac.leeds.ccg.math.primes.test to org.junit.platform.commons;
     opens uk.ac.leeds.ccg.math.random.test to org.junit.platform.commons;
 }
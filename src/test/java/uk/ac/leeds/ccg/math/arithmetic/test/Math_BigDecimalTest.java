@@ -23,6 +23,8 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -2045,6 +2047,72 @@ public class Math_BigDecimalTest {
         result = Math_BigDecimal.log(base, x, oom, rm);
         expResult = new BigDecimal("0.979250371");
         assertTrue(expResult.compareTo(result) == 0);
+        // Test 5
+        oom = 0;
+        base = new BigDecimal("4");
+        x = new BigDecimal("2");
+        result = Math_BigDecimal.log(base, x, oom, rm);
+        expResult = BigDecimal.ONE;
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 6
+        oom = -1;
+        rm = RoundingMode.DOWN;
+        base = new BigDecimal("0.25");
+        x = new BigDecimal("8");
+        result = Math_BigDecimal.log(base, x, oom, rm);
+        expResult = new BigDecimal("-1.5");
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 7
+        Random random = new Random(15);
+        MathContext mc = new MathContext(60);
+        RoundingMode[] rms = new RoundingMode[]{RoundingMode.UP,
+            RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP};
+        for (int i = 0; i < 200; i++) {
+            base = BigDecimal.valueOf(2 + random.nextInt(15));
+            x = new BigDecimal(BigInteger.valueOf(random.nextInt(
+                    Integer.MAX_VALUE) + 2L), random.nextInt(40) - 20);
+            oom = random.nextInt(30) - 25;
+            rm = rms[random.nextInt(rms.length)];
+            result = Math_BigDecimal.log(base, x, oom, rm);
+            expResult = BigDecimalMath.log(x, mc).divide(BigDecimalMath.log(
+                    base, mc), mc).setScale(-oom, rm);
+            assertTrue(expResult.compareTo(result) == 0,
+                    base + " " + x + " " + oom + " " + rm);
+        }
+        // Test 8: Large exact results on rounding boundaries.
+        BigDecimal x2000 = new BigDecimal(BigInteger.TWO.pow(2000));
+        assertTrue(new BigDecimal("2000").compareTo(Math_BigDecimal.log(
+                BigDecimal.valueOf(2), x2000, 0, RoundingMode.DOWN)) == 0);
+        assertTrue(new BigDecimal("2000").compareTo(Math_BigDecimal.log(
+                BigDecimal.valueOf(2), x2000, 0, RoundingMode.UP)) == 0);
+        assertTrue(new BigDecimal("1500").compareTo(Math_BigDecimal.log(
+                BigDecimal.TEN, new BigDecimal("1E+1500"), -3,
+                RoundingMode.FLOOR)) == 0);
+        assertTrue(new BigDecimal("-1100").compareTo(Math_BigDecimal.log(
+                BigDecimal.TEN, new BigDecimal("1E-1100"), 0,
+                RoundingMode.CEILING)) == 0);
+        assertTrue(new BigDecimal("-1500").compareTo(Math_BigDecimal.log(
+                new BigDecimal("1000"), new BigDecimal("1E-4500"), 0,
+                RoundingMode.UP)) == 0);
+        // Test 9: Large exact half integer results.
+        base = new BigDecimal("4");
+        x = new BigDecimal(BigInteger.TWO.pow(2051));
+        RoundingMode[] hrms = new RoundingMode[]{RoundingMode.UP,
+            RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN,
+            RoundingMode.HALF_EVEN};
+        for (RoundingMode hrm : hrms) {
+            expResult = new BigDecimal("1025.5").setScale(0, hrm);
+            result = Math_BigDecimal.log(base, x, 0, hrm);
+            assertTrue(expResult.compareTo(result) == 0, hrm.toString());
+            result = Math_BigDecimal.log(base, x, -1, hrm);
+            assertTrue(new BigDecimal("1025.5").compareTo(result) == 0,
+                    hrm.toString());
+            expResult = new BigDecimal("-1025.5").setScale(0, hrm);
+            result = Math_BigDecimal.log(new BigDecimal("0.25"), x, 0, hrm);
+            assertTrue(expResult.compareTo(result) == 0, hrm.toString());
+        }
     }
 
     /**
@@ -2556,6 +2624,16 @@ public class Math_BigDecimalTest {
         expResult = 3;
         result = Math_BigDecimal.getMostSignificantDigit(x);
         assertEquals(expResult, result);
+        // Test 6
+        x = new BigDecimal("-7" + "0".repeat(60) + "1E-30");
+        expResult = 7;
+        result = Math_BigDecimal.getMostSignificantDigit(x);
+        assertEquals(expResult, result);
+        // Test 7
+        x = new BigDecimal("9E+40");
+        expResult = 9;
+        result = Math_BigDecimal.getMostSignificantDigit(x);
+        assertEquals(expResult, result);
     }
     
     /**
@@ -2709,6 +2787,86 @@ public class Math_BigDecimalTest {
         assertFalse(result);
     }
 
+    /**
+     * Test of randomUniformTest method, of class Math_BigDecimal.
+     */
+    @Test
+    public void testRandomUniformTest_RandomGenerator_BigDecimal() {
+        System.out.println("randomUniformTest");
+        RandomGenerator g = new SplittableRandom(0L);
+        // Test 1
+        assertFalse(Math_BigDecimal.randomUniformTest(g, BigDecimal.ZERO));
+        assertFalse(Math_BigDecimal.randomUniformTest(g,
+                new BigDecimal("-0.1")));
+        assertTrue(Math_BigDecimal.randomUniformTest(g, BigDecimal.ONE));
+        assertTrue(Math_BigDecimal.randomUniformTest(g, new BigDecimal("1.1")));
+        // Test 2
+        BigDecimal p = new BigDecimal("1E-30");
+        BigDecimal q = BigDecimal.ONE.subtract(p);
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(Math_BigDecimal.randomUniformTest(g, p));
+            assertTrue(Math_BigDecimal.randomUniformTest(g, q));
+        }
+        // Test 3: The frequencies are within 5 standard deviations.
+        int n = 100000;
+        String[] ps = {"0.3", "0.5", "0.999", "0.1234567890123456789012345"};
+        for (String ps1 : ps) {
+            p = new BigDecimal(ps1);
+            int count = 0;
+            for (int i = 0; i < n; i++) {
+                if (Math_BigDecimal.randomUniformTest(g, p)) {
+                    count++;
+                }
+            }
+            double e = n * p.doubleValue();
+            double sd = Math.sqrt(e * (1d - p.doubleValue()));
+            assertTrue(Math.abs(count - e) < 5d * sd, ps1 + " " + count);
+        }
+    }
+
+    /**
+     * Test of randomUniformTests method, of class Math_BigDecimal.
+     */
+    @Test
+    public void testRandomUniformTests() {
+        System.out.println("randomUniformTests");
+        BigDecimal[] ps = new BigDecimal[]{BigDecimal.ZERO, BigDecimal.ONE,
+            new BigDecimal("0.25"), new BigDecimal("0.123456789012345678901")};
+        boolean[] result = Math_BigDecimal.randomUniformTests(
+                new SplittableRandom(1L), ps);
+        RandomGenerator g = new SplittableRandom(1L);
+        for (int i = 0; i < ps.length; i++) {
+            assertEquals(Math_BigDecimal.randomUniformTest(g, ps[i]),
+                    result[i]);
+        }
+    }
+
+    /**
+     * Test of randomUniformCount method, of class Math_BigDecimal.
+     */
+    @Test
+    public void testRandomUniformCount() {
+        System.out.println("randomUniformCount");
+        // Test 1
+        BigDecimal p = new BigDecimal("0.25");
+        int n = 1000;
+        RandomGenerator g = new SplittableRandom(2L);
+        int expResult = 0;
+        for (int i = 0; i < n; i++) {
+            if (Math_BigDecimal.randomUniformTest(g, p)) {
+                expResult++;
+            }
+        }
+        int result = Math_BigDecimal.randomUniformCount(
+                new SplittableRandom(2L), p, n);
+        assertEquals(expResult, result);
+        // Test 2
+        assertEquals(0, Math_BigDecimal.randomUniformCount(g, BigDecimal.ZERO,
+                n));
+        assertEquals(n, Math_BigDecimal.randomUniformCount(g, BigDecimal.ONE,
+                n));
+    }
+
     /**
      * Test of isEven method, of class Math_BigDecimal.
      */
@@ -3989,9 +4147,17 @@ public class Math_BigDecimalTest {
                 + "342117068");
         assertTrue(expResult.compareTo(result) == 0);
         // Test 2
-        assertThrows(RuntimeException.class, () -> {
-            instance.getPi(-10001, rm);
-        });
+        oom = -20000;
+        result = instance.getPi(oom, rm);
+        expResult = BigDecimalMath.pi(new MathContext(20010)).setScale(-oom,
+                rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 3
+        oom = -1000;
+        rm = RoundingMode.DOWN;
+        result = new Math_BigDecimal().getPi(oom, rm);
+        expResult = expResult.setScale(-oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
 
     /**
@@ -4635,53 +4801,68 @@ public class Math_BigDecimalTest {
      * Test of asin method, of class Math_BigDecimal.
      */
     @Test
-    @Disabled
     public void testAsin() {
         System.out.println("asin");
-        BigDecimal x = null;
-        int scale = 0;
-        RoundingMode rm = null;
-        BigDecimal expResult = null;
+        BigDecimal x = new BigDecimal("0.5");
+        int scale = 30;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        // Test 1
+        BigDecimal expResult = BigDecimalMath.asin(x, new MathContext(50))
+                .setScale(scale, rm);
         BigDecimal result = Math_BigDecimal.asin(x, scale, rm);
-        assertEquals(expResult, result);
-        // TODO review the generated test code and remove the default call to fail.
-        fail("The test case is a prototype.");
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        x = new BigDecimal("-0.99");
+        rm = RoundingMode.DOWN;
+        expResult = BigDecimalMath.asin(x, new MathContext(50))
+                .setScale(scale, rm);
+        result = Math_BigDecimal.asin(x, scale, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
 
     /**
      * Test of atan method, of class Math_BigDecimal.
      */
     @Test
-    @Disabled
     public void testAtan() {
         System.out.println("atan");
-        BigDecimal x = null;
-        int oom = 0;
-        RoundingMode rm = null;
+        BigDecimal x = BigDecimal.ONE;
+        int oom = -30;
+        RoundingMode rm = RoundingMode.HALF_UP;
         Math_BigDecimal instance = new Math_BigDecimal();
-        BigDecimal expResult = null;
+        // Test 1
+        BigDecimal expResult = instance.getPi(oom - 2, rm).divide(
+                BigDecimal.valueOf(4)).setScale(-oom, rm);
         BigDecimal result = instance.atan(x, oom, rm);
-        assertEquals(expResult, result);
-        // TODO review the generated test code and remove the default call to fail.
-        fail("The test case is a prototype.");
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        x = new BigDecimal("-12345.678");
+        expResult = BigDecimalMath.atan(x, new MathContext(50))
+                .setScale(-oom, rm);
+        result = instance.atan(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
 
     /**
      * Test of acos method, of class Math_BigDecimal.
      */
     @Test
-    @Disabled
     public void testAcos() {
         System.out.println("acos");
-        BigDecimal x = null;
-        int oom = 0;
-        RoundingMode rm = null;
+        BigDecimal x = new BigDecimal("-1");
+        int oom = -30;
+        RoundingMode rm = RoundingMode.HALF_UP;
         Math_BigDecimal instance = new Math_BigDecimal();
-        BigDecimal expResult = null;
+        // Test 1
+        BigDecimal expResult = instance.getPi(oom, rm);
         BigDecimal result = instance.acos(x, oom, rm);
-        assertEquals(expResult, result);
-        // TODO review the generated test code and remove the default call to fail.
-        fail("The test case is a prototype.");
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        x = new BigDecimal("0.3");
+        expResult = BigDecimalMath.acos(x, new MathContext(50))
+                .setScale(-oom, rm);
+        result = instance.acos(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
 
     /**
@@ -21,8 +21,10 @@ import java.math.RoundingMode;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -130,6 +132,78 @@ public class Math_BigIntegerTest {
                 + "591091570411651472186029519906261646730733907419814952960000"
                 + "000000000000000000000000");
         assertEquals(expResult, result);
+        // Test 2
+        BigInteger f = BigInteger.ONE;
+        for (int i = 1; i <= 3000; i++) {
+            f = f.multiply(BigInteger.valueOf(i));
+            if (i % 97 == 0 || i % Math_BigInteger.FACTORIAL_STEP == 0) {
+                assertEquals(f, a_Generic_BigInteger.factorial(i));
+            }
+        }
+        // Test 3
+        Math_BigInteger bi = new Math_BigInteger(a_Generic_BigInteger);
+        BigInteger[] results = IntStream.rangeClosed(0, 2000).parallel()
+                .mapToObj(i -> bi.factorial(i)).toArray(BigInteger[]::new);
+        f = BigInteger.ONE;
+        for (int i = 0; i <= 2000; i++) {
+            if (i > 0) {
+                f = f.multiply(BigInteger.valueOf(i));
+            }
+            assertEquals(f, results[i]);
+        }
+        // Test 4
+        assertThrows(ArithmeticException.class,
+                () -> a_Generic_BigInteger.factorial(-1));
+    }
+
+    @Test
+    public void testFactorialPrimeSwing() {
+        String funcName = "factorialPrimeSwing";
+        System.out.println("Test " + funcName);
+        // Test 1
+        BigInteger f = BigInteger.ONE;
+        for (int i = 0; i <= 1000; i++) {
+            if (i > 0) {
+                f = f.multiply(BigInteger.valueOf(i));
+            }
+            assertEquals(f, Math_BigInteger.factorialPrimeSwing(i));
+        }
+        // Test 2
+        for (int i = 1001; i <= 20000; i++) {
+            f = f.multiply(BigInteger.valueOf(i));
+        }
+        assertEquals(f, Math_BigInteger.factorialPrimeSwing(20000));
+        assertEquals(f, new Math_BigInteger().factorial(20000));
+    }
+
+    @Test
+    public void testBinomial() {
+        String funcName = "binomial";
+        System.out.println("Test " + funcName);
+        // Test 1
+        assertEquals(BigInteger.ZERO, Math_BigInteger.binomial(5, 6));
+        assertEquals(BigInteger.ZERO, Math_BigInteger.binomial(5, -1));
+        assertEquals(BigInteger.ONE, Math_BigInteger.binomial(0, 0));
+        assertEquals(BigInteger.valueOf(10), Math_BigInteger.binomial(5, 2));
+        // Test 2
+        Math_BigInteger bi = new Math_BigInteger();
+        for (int n = 0; n <= 300; n += 7) {
+            for (int k = 0; k <= n; k++) {
+                BigInteger expResult = bi.factorial(n).divide(bi.factorial(k)
+                        .multiply(bi.factorial(n - k)));
+                assertEquals(expResult, Math_BigInteger.binomial(n, k),
+                        n + " " + k);
+            }
+        }
+        // Test 3
+        int n = 100000;
+        int k = 31415;
+        BigInteger expResult = Math_BigInteger.binomial(n - 1, k - 1).add(
+                Math_BigInteger.binomial(n - 1, k));
+        assertEquals(expResult, Math_BigInteger.binomial(n, k));
+        // Test 4
+        assertThrows(ArithmeticException.class,
+                () -> Math_BigInteger.binomial(-1, 0));
     }
     
     @Test
@@ -270,6 +344,23 @@ public class Math_BigIntegerTest {
         });
         String m = exception.getMessage();
         assertTrue(m.equalsIgnoreCase("!(x > 0)"));
+        // Test 5
+        Random random = new Random(24);
+        for (int i = 0; i < 1000; i++) {
+            x = new BigInteger(1 + random.nextInt(4000), random);
+            if (random.nextBoolean()) {
+                x = BigInteger.TEN.pow(random.nextInt(1200));
+                if (random.nextBoolean()) {
+                    x = x.subtract(BigInteger.ONE);
+                }
+            }
+            if (x.signum() == 0) {
+                continue;
+            }
+            expResult = x.toString().length() - 1;
+            result = Math_BigInteger.log10(x);
+            assertEquals(expResult, result, x.toString());
+        }
     }
 
     /**
@@ -525,7 +616,35 @@ public class Math_BigIntegerTest {
         expResult = BigInteger.valueOf(123456789);
         result = Math_BigInteger.round(x, oom, rm);
         assertTrue(expResult.compareTo(result) == 0);
-
+        // Test 10
+        RoundingMode[] rms = new RoundingMode[]{RoundingMode.UP,
+            RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR,
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN,
+            RoundingMode.HALF_EVEN};
+        Random random = new Random(25);
+        for (int i = 0; i < 2000; i++) {
+            x = new BigInteger(1 + random.nextInt(random.nextBoolean() ? 62
+                    : 200), random);
+            if (random.nextBoolean()) {
+                // Make ties more likely.
+                x = x.multiply(BigInteger.TEN.pow(random.nextInt(4)))
+                        .add(BigInteger.valueOf(5));
+            }
+            if (random.nextBoolean()) {
+                x = x.negate();
+            }
+            oom = random.nextInt(25);
+            rm = rms[random.nextInt(rms.length)];
+            expResult = new BigDecimal(x).movePointLeft(oom).setScale(0, rm)
+                    .movePointRight(oom).toBigInteger();
+            result = Math_BigInteger.round(x, oom, rm);
+            assertEquals(expResult, result, x + " " + oom + " " + rm);
+        }
+        // Test 11
+        assertThrows(ArithmeticException.class, () -> Math_BigInteger.round(
+                BigInteger.valueOf(15), 1, RoundingMode.UNNECESSARY));
+        assertEquals(BigInteger.valueOf(150), Math_BigInteger.round(
+                BigInteger.valueOf(150), 1, RoundingMode.UNNECESSARY));
     }
 
     /**
@@ -573,13 +692,19 @@ public class Math_BigIntegerTest {
 
     /**
      * Test of getOrderOfMagnitudeOfSmallestNonZeroDigit method, of class Math_BigInteger.
-     * Test covered by {@link #testGetOrderOfMagnitudeOfSmallestNonZeroDigit_BigInteger()}
      */
     @Test
-    @Disabled
     public void testGetOrderOfMagnitudeOfSmallestNonZeroDigit_BigInteger_int() {
         System.out.println("getOrderOfMagnitudeOfSmallestNonZeroDigit");
-        // No test.
+        BigInteger x = new BigInteger("-123456789000000000000000000000");
+        int expResult = 21;
+        int result = Math_BigInteger.getOrderOfMagnitudeOfSmallestNonZeroDigit(x, 3);
+        assertEquals(expResult, result);
+        // Test 2
+        x = BigInteger.ZERO;
+        expResult = 3;
+        result = Math_BigInteger.getOrderOfMagnitudeOfSmallestNonZeroDigit(x, 3);
+        assertEquals(expResult, result);
     }
 
     /**
@@ -792,6 +917,91 @@ public class Math_BigIntegerTest {
         }
     }
 
+    /**
+     * Test of getPrimeFactorisation method, of class Math_BigInteger.
+     */
+    @Test
+    public void testGetPrimeFactorisation() {
+        System.out.println("getPrimeFactorisation");
+        // Test 1
+        BigInteger x = BigInteger.valueOf(2*3*4*5*6*7);
+        TreeMap<BigInteger, Integer> expResult = new TreeMap<>();
+        expResult.put(BigInteger.valueOf(2), 4);
+        expResult.put(BigInteger.valueOf(3), 2);
+        expResult.put(BigInteger.valueOf(5), 1);
+        expResult.put(BigInteger.valueOf(7), 1);
+        TreeMap<BigInteger, Integer> result = Math_BigInteger.getPrimeFactorisation(x);
+        assertEquals(expResult, result);
+        // Test 2
+        x = BigInteger.ONE;
+        result = Math_BigInteger.getPrimeFactorisation(x);
+        assertTrue(result.isEmpty());
+        // Test 3: Pollard's rho.
+        BigInteger p = BigInteger.valueOf(2147483647L);
+        BigInteger q = BigInteger.valueOf(2305843009213693951L);
+        x = p.multiply(q);
+        expResult = new TreeMap<>();
+        expResult.put(p, 1);
+        expResult.put(q, 1);
+        result = Math_BigInteger.getPrimeFactorisation(x);
+        assertEquals(expResult, result);
+        // Test 4: Elliptic curves and powers.
+        p = BigInteger.TEN.pow(13).nextProbablePrime();
+        q = BigInteger.TEN.pow(14).nextProbablePrime();
+        BigInteger r = BigInteger.valueOf(65537);
+        x = p.multiply(q).multiply(r.pow(3)).multiply(BigInteger.valueOf(12));
+        expResult = new TreeMap<>();
+        expResult.put(BigInteger.valueOf(2), 2);
+        expResult.put(BigInteger.valueOf(3), 1);
+        expResult.put(r, 3);
+        expResult.put(p, 1);
+        expResult.put(q, 1);
+        result = Math_BigInteger.getPrimeFactorisation(x);
+        assertEquals(expResult, result);
+        // Test 5: A perfect power.
+        x = q.pow(5);
+        expResult = new TreeMap<>();
+        expResult.put(q, 5);
+        result = Math_BigInteger.getPrimeFactorisation(x);
+        assertEquals(expResult, result);
+    }
+
+    /**
+     * Test of isProbablePrime method, of class Math_BigInteger.
+     */
+    @Test
+    public void testIsProbablePrime() {
+        System.out.println("isProbablePrime");
+        // Test 1
+        assertFalse(Math_BigInteger.isProbablePrime(BigInteger.valueOf(-7)));
+        for (long i = 0; i < 10000; i++) {
+            BigInteger x = BigInteger.valueOf(i);
+            assertEquals(x.isProbablePrime(50),
+                    Math_BigInteger.isProbablePrime(x));
+        }
+        // Test 2
+        BigInteger x = BigInteger.TWO.pow(64).subtract(BigInteger.valueOf(1000));
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(x.isProbablePrime(50),
+                    Math_BigInteger.isProbablePrime(x));
+            x = x.add(BigInteger.ONE);
+        }
+        // Test 3: Mersenne primes and composites.
+        assertTrue(Math_BigInteger.isProbablePrime(
+                BigInteger.TWO.pow(89).subtract(BigInteger.ONE)));
+        assertTrue(Math_BigInteger.isProbablePrime(
+                BigInteger.TWO.pow(127).subtract(BigInteger.ONE)));
+        assertTrue(Math_BigInteger.isProbablePrime(
+                BigInteger.TWO.pow(521).subtract(BigInteger.ONE)));
+        assertFalse(Math_BigInteger.isProbablePrime(
+                BigInteger.TWO.pow(128).subtract(BigInteger.ONE)));
+        assertFalse(Math_BigInteger.isProbablePrime(
+                BigInteger.TWO.pow(89).subtract(BigInteger.ONE).pow(2)));
+        assertFalse(Math_BigInteger.isProbablePrime(
+                BigInteger.TWO.pow(89).subtract(BigInteger.ONE).multiply(
+                        BigInteger.TWO.pow(61).subtract(BigInteger.ONE))));
+    }
+
     /**
      * Test of min method, of class Math_BigInteger.
      */
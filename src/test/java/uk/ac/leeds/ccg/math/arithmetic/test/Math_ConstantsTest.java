@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_Constants;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_ConstantsTest {
+
+    public Math_ConstantsTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of get method, of class Math_Constants.Constant.
+     */
+    @Test
+    public void testGet() {
+        System.out.println("get");
+        MathContext mc = new MathContext(2020);
+        BigDecimal[] expResults = new BigDecimal[]{BigDecimalMath.pi(mc),
+            BigDecimalMath.e(mc), BigDecimalMath.log(BigDecimal.valueOf(2), mc),
+            BigDecimalMath.log(BigDecimal.TEN, mc)};
+        Math_Constants.Constant[] cs = Math_Constants.getConstants();
+        for (RoundingMode rm : new RoundingMode[]{RoundingMode.HALF_UP,
+            RoundingMode.DOWN, RoundingMode.UP}) {
+            for (int i = 0; i < cs.length; i++) {
+                for (int oom = 1; oom >= -2000; oom = oom * 2 - 3) {
+                    BigDecimal expResult = expResults[i].setScale(-oom, rm);
+                    BigDecimal result = cs[i].get(oom, rm);
+                    assertTrue(expResult.compareTo(result) == 0,
+                            cs[i].getName() + " " + oom + " " + rm);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of getHits, getMisses and getDecimalPlaces methods, of class
+     * Math_Constants.Constant.
+     */
+    @Test
+    public void testMetrics() {
+        System.out.println("metrics");
+        Math_Constants.Constant instance = new Math_Constants.Constant("one",
+                d -> BigDecimal.ONE);
+        assertEquals(-1, instance.getDecimalPlaces());
+        assertEquals(0L, instance.getHits());
+        assertEquals(0L, instance.getMisses());
+        // Test 1
+        instance.get(-10, RoundingMode.HALF_UP);
+        assertEquals(0L, instance.getHits());
+        assertEquals(1L, instance.getMisses());
+        int dp = instance.getDecimalPlaces();
+        assertTrue(dp >= 10);
+        // Test 2
+        instance.get(-5, RoundingMode.HALF_UP);
+        instance.get(-10, RoundingMode.HALF_UP);
+        assertEquals(2L, instance.getHits());
+        assertEquals(1L, instance.getMisses());
+        assertEquals(dp, instance.getDecimalPlaces());
+        // Test 3
+        instance.get(-100, RoundingMode.HALF_UP);
+        assertEquals(2L, instance.getMisses());
+        assertTrue(instance.getDecimalPlaces() >= 100);
+        // Test 4
+        instance.resetMetrics();
+        assertEquals(0L, instance.getHits());
+        assertEquals(0L, instance.getMisses());
+    }
+
+    /**
+     * Test of getLn method, of class Math_Constants.
+     */
+    @Test
+    public void testGetLn() {
+        System.out.println("getLn");
+        // Test 1
+        assertSame(Math_Constants.LN2, Math_Constants.getLn(
+                new BigDecimal("2.00")));
+        assertSame(Math_Constants.LN10, Math_Constants.getLn(
+                new BigDecimal("1E+1")));
+        // Test 2
+        BigDecimal x = new BigDecimal("123.456");
+        Math_Constants.Constant instance = Math_Constants.getLn(x);
+        assertSame(instance, Math_Constants.getLn(new BigDecimal("123.4560")));
+        int oom = -100;
+        BigDecimal expResult = BigDecimalMath.log(x, new MathContext(110))
+                .setScale(-oom, RoundingMode.HALF_UP);
+        BigDecimal result = instance.get(oom, RoundingMode.HALF_UP);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 3
+        assertThrows(IllegalArgumentException.class,
+                () -> Math_Constants.getLn(BigDecimal.ZERO));
+    }
+
+    /**
+     * Test of getValue method, of class Math_Constants.Constant, called from
+     * many threads.
+     *
+     * @throws Exception If encountered.
+     */
+    @Test
+    public void testGetValueConcurrently() throws Exception {
+        System.out.println("getValueConcurrently");
+        Math_Constants.Constant instance = new Math_Constants.Constant("pi",
+                d -> BigDecimalMath.pi(new MathContext(d + 1)));
+        BigDecimal pi = BigDecimalMath.pi(new MathContext(520));
+        ExecutorService es = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BigDecimal>> fs = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                int oom = -(i * 7 % 500);
+                fs.add(es.submit(() -> instance.get(oom, RoundingMode.DOWN)));
+            }
+            for (int i = 0; i < 64; i++) {
+                int oom = -(i * 7 % 500);
+                assertTrue(pi.setScale(-oom, RoundingMode.DOWN).compareTo(
+                        fs.get(i).get()) == 0);
+            }
+        } finally {
+            es.shutdown();
+        }
+        assertEquals(64L, instance.getHits() + instance.getMisses());
+        assertTrue(instance.getDecimalPlaces() >= 441);
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_Exp;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_ExpTest {
+
+    public Math_ExpTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of exp method, of class Math_Exp.
+     */
+    @Test
+    public void testExp() {
+        System.out.println("exp");
+        // Test 1
+        BigDecimal x = BigDecimal.ZERO;
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigDecimal expResult = BigDecimal.ONE;
+        BigDecimal result = Math_Exp.exp(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        x = BigDecimal.ONE;
+        oom = -20;
+        expResult = new BigDecimal("2.71828182845904523536");
+        result = Math_Exp.exp(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 3
+        x = BigDecimal.valueOf(-100);
+        oom = -3;
+        expResult = BigDecimal.ZERO;
+        result = Math_Exp.exp(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        result = Math_Exp.exp(x, oom, RoundingMode.UP);
+        assertTrue(new BigDecimal("0.001").compareTo(result) == 0);
+        // Test 4: Compare with BigDecimalMath.
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            x = new BigDecimal(random.nextGaussian()
+                    * Math.pow(10, random.nextInt(6) - 2)).setScale(
+                            random.nextInt(40), RoundingMode.HALF_UP);
+            oom = -random.nextInt(300);
+            rm = RoundingMode.values()[random.nextInt(6)];
+            MathContext mc = new MathContext(Math.max(5,
+                    (int) (x.doubleValue() * 0.4343) - oom + 30));
+            expResult = BigDecimalMath.exp(x, mc).setScale(-oom, rm);
+            result = Math_Exp.exp(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom);
+        }
+        // Test 5: Many digits in the argument.
+        x = BigDecimalMath.pi(new MathContext(3000));
+        oom = -2900;
+        rm = RoundingMode.DOWN;
+        expResult = BigDecimalMath.exp(x, new MathContext(2930)).setScale(-oom,
+                rm);
+        result = Math_Exp.exp(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+    }
+
+    /**
+     * Test of e method, of class Math_Exp.
+     */
+    @Test
+    public void testE() {
+        System.out.println("e");
+        int dp = 5000;
+        BigDecimal expResult = BigDecimalMath.e(new MathContext(dp + 20))
+                .setScale(dp, RoundingMode.DOWN);
+        BigDecimal result = Math_Exp.e(dp).setScale(dp, RoundingMode.DOWN);
+        assertTrue(expResult.compareTo(result) == 0);
+    }
+}
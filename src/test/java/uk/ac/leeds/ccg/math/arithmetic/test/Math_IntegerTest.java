@@ -15,6 +15,7 @@
  */
 package uk.ac.leeds.ccg.math.arithmetic.test;
 
+import java.util.TreeMap;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -283,4 +284,25 @@ public class Math_IntegerTest {
         assertTrue(Math_Integer.max(a, b, 0) == a);
         assertTrue(Math_Integer.max(0, 10, -10) == 10);
     }
+
+    /**
+     * Test of getPrimeFactors method, of class Math_Integer.
+     */
+    @Test
+    public void testGetPrimeFactors() {
+        System.out.println("getPrimeFactors");
+        // Test 1
+        TreeMap<Integer, Integer> expResult = new TreeMap<>();
+        expResult.put(3, 2);
+        expResult.put(3607, 1);
+        expResult.put(3803, 1);
+        assertEquals(expResult, Math_Integer.getPrimeFactors(123456789));
+        // Test 2
+        expResult = new TreeMap<>();
+        expResult.put(2, 3);
+        assertEquals(expResult, Math_Integer.getPrimeFactors(8));
+        // Test 3
+        assertTrue(Math_Integer.getPrimeFactors(Integer.MAX_VALUE).isEmpty());
+        assertTrue(Math_Integer.getPrimeFactors(1).isEmpty());
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_Ln;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_LnTest {
+
+    public Math_LnTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of ln method, of class Math_Ln.
+     */
+    @Test
+    public void testLn() {
+        System.out.println("ln");
+        // Test 1
+        BigDecimal x = BigDecimal.ONE;
+        int oom = -3;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigDecimal expResult = BigDecimal.ZERO;
+        BigDecimal result = Math_Ln.ln(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        x = BigDecimal.TEN;
+        oom = -20;
+        expResult = new BigDecimal("2.30258509299404568402");
+        result = Math_Ln.ln(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 3
+        assertThrows(IllegalArgumentException.class, () -> {
+            Math_Ln.ln(BigDecimal.ZERO, -3, RoundingMode.HALF_UP);
+        });
+        // Test 4: Close to a rounding boundary.
+        x = new BigDecimal("1.0000000000000000000000000000000001");
+        oom = -51;
+        expResult = new BigDecimal("9.9999999999999999E-35");
+        result = Math_Ln.ln(x, oom, RoundingMode.FLOOR);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 5: Compare with BigDecimalMath.
+        Random random = new Random(0);
+        for (int i = 0; i < 200; i++) {
+            x = new BigDecimal(Math.abs(random.nextGaussian())
+                    * Math.pow(10, random.nextInt(40) - 20)).setScale(
+                            random.nextInt(60), RoundingMode.HALF_UP);
+            if (x.signum() != 0) {
+                oom = -random.nextInt(300);
+                rm = RoundingMode.values()[random.nextInt(6)];
+                expResult = BigDecimalMath.log(x, new MathContext(-oom + 40))
+                        .setScale(-oom, rm);
+                result = Math_Ln.ln(x, oom, rm);
+                assertTrue(expResult.compareTo(result) == 0, x + " " + oom);
+            }
+        }
+    }
+}
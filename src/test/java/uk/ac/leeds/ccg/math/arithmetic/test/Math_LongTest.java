@@ -327,5 +327,91 @@ public class Math_LongTest {
         for (Long v : result.keySet()) {
             assertTrue(expResult.get(v).compareTo(result.get(v)) == 0);
         }
+        // Test 2: Repeated factors.
+        expResult = new TreeMap<>();
+        expResult.put(2L, 3L);
+        assertEquals(expResult, Math_Long.getPrimeFactors(8L));
+        // Test 3: Primes and numbers less than 2.
+        assertTrue(Math_Long.getPrimeFactors(13L).isEmpty());
+        assertTrue(Math_Long.getPrimeFactors(1L).isEmpty());
+        assertTrue(Math_Long.getPrimeFactors(-6L).isEmpty());
+    }
+
+    /**
+     * Test of getPrimeFactorisation method, of class Math_Long.
+     */
+    @Test
+    public void testGetPrimeFactorisation() {
+        System.out.println("getPrimeFactorisation");
+        // Test 1
+        assertArrayEquals(new long[0], Math_Long.getPrimeFactorisation(1L));
+        assertArrayEquals(new long[0], Math_Long.getPrimeFactorisation(-12L));
+        assertArrayEquals(new long[]{2L, 1L},
+                Math_Long.getPrimeFactorisation(2L));
+        assertArrayEquals(new long[]{2L, 2L, 3L, 1L},
+                Math_Long.getPrimeFactorisation(12L));
+        // Test 2: Compare with the factorisation of BigInteger values.
+        for (long x = 2; x < 10000; x++) {
+            assertFactorisation(x);
+        }
+        // Test 3: Large semiprimes and squares of large primes.
+        assertArrayEquals(new long[]{3037000453L, 1L, 3037000493L, 1L},
+                Math_Long.getPrimeFactorisation(3037000453L * 3037000493L));
+        assertArrayEquals(new long[]{2147483647L, 2L},
+                Math_Long.getPrimeFactorisation(2147483647L * 2147483647L));
+        assertArrayEquals(new long[]{7L, 2L, 73L, 1L, 127L, 1L, 337L, 1L,
+            92737L, 1L, 649657L, 1L},
+                Math_Long.getPrimeFactorisation(Long.MAX_VALUE));
+        for (long x = Long.MAX_VALUE - 1000; x < Long.MAX_VALUE; x++) {
+            assertFactorisation(x);
+        }
+    }
+
+    /**
+     * Asserts that the factorisation of {@code x} comprises ascending primes
+     * the product of which is {@code x}.
+     *
+     * @param x The number factorised.
+     */
+    private void assertFactorisation(long x) {
+        long[] f = Math_Long.getPrimeFactorisation(x);
+        BigInteger product = BigInteger.ONE;
+        for (int i = 0; i < f.length; i += 2) {
+            assertTrue(Math_Long.isPrime(f[i]));
+            if (i > 0) {
+                assertTrue(f[i - 2] < f[i]);
+            }
+            product = product.multiply(BigInteger.valueOf(f[i])
+                    .pow((int) f[i + 1]));
+        }
+        assertEquals(BigInteger.valueOf(x), product);
+    }
+
+    /**
+     * Test of isPrime method, of class Math_Long.
+     */
+    @Test
+    public void testIsPrime() {
+        System.out.println("isPrime");
+        // Test 1
+        assertFalse(Math_Long.isPrime(-7L));
+        for (long x = 0; x < 100000; x++) {
+            assertEquals(BigInteger.valueOf(x).isProbablePrime(50),
+                    Math_Long.isPrime(x));
+        }
+        // Test 2: Carmichael numbers and strong pseudoprimes.
+        assertFalse(Math_Long.isPrime(561L));
+        assertFalse(Math_Long.isPrime(3215031751L));
+        assertFalse(Math_Long.isPrime(341550071728321L));
+        assertFalse(Math_Long.isPrime(3825123056546413051L));
+        // Test 3: Large primes and composites.
+        assertTrue(Math_Long.isPrime(2305843009213693951L)); // 2^61-1
+        assertTrue(Math_Long.isPrime(9223372036854775783L));
+        assertFalse(Math_Long.isPrime(Long.MAX_VALUE));
+        assertFalse(Math_Long.isPrime(4294967291L * 4294967279L));
+        for (long x = Long.MAX_VALUE - 10000; x < Long.MAX_VALUE; x++) {
+            assertEquals(BigInteger.valueOf(x).isProbablePrime(50),
+                    Math_Long.isPrime(x));
+        }
     }
 }
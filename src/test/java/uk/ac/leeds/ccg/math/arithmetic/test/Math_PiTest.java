@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_Pi;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_PiTest {
+
+    public Math_PiTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of getPi method, of class Math_Pi.
+     */
+    @Test
+    public void testGetPi() {
+        System.out.println("getPi");
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigDecimal pi = BigDecimalMath.pi(new MathContext(10020));
+        Math_Pi instance = new Math_Pi();
+        // Test 1
+        int oom = 0;
+        BigDecimal expResult = BigDecimal.valueOf(3);
+        BigDecimal result = instance.getPi(oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        oom = -50;
+        expResult = pi.setScale(-oom, rm);
+        result = instance.getPi(oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 3: Extending the precision.
+        for (oom = -100; oom >= -10000; oom *= 3) {
+            expResult = pi.setScale(-oom, rm);
+            result = instance.getPi(oom, rm);
+            assertTrue(expResult.compareTo(result) == 0);
+        }
+        // Test 4: Less precision after more.
+        oom = -7;
+        expResult = new BigDecimal("3.1415927");
+        result = instance.getPi(oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 5: Splitting the terms in a pool.
+        oom = -10000;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            expResult = pi.setScale(-oom, RoundingMode.DOWN);
+            result = new Math_Pi(pool).getPi(oom, RoundingMode.DOWN);
+            assertTrue(expResult.compareTo(result) == 0);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Test of getDecimalPlaces method, of class Math_Pi.
+     */
+    @Test
+    public void testGetDecimalPlaces() {
+        System.out.println("getDecimalPlaces");
+        Math_Pi instance = new Math_Pi();
+        assertEquals(-1, instance.getDecimalPlaces());
+        instance.getPi(-100, RoundingMode.HALF_UP);
+        assertTrue(instance.getDecimalPlaces() >= 100);
+        int dp = instance.getDecimalPlaces();
+        instance.getPi(-10, RoundingMode.HALF_UP);
+        assertEquals(dp, instance.getDecimalPlaces());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_PowersOfTen;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_PowersOfTenTest {
+
+    public Math_PowersOfTenTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of longValue method, of class Math_PowersOfTen.
+     */
+    @Test
+    public void testLongValue() {
+        System.out.println("longValue");
+        long expResult = 1L;
+        for (int n = 0; n <= Math_PowersOfTen.MAX_LONG_EXPONENT; n++) {
+            assertEquals(expResult, Math_PowersOfTen.longValue(n));
+            expResult *= 10L;
+        }
+    }
+
+    /**
+     * Test of bigInteger method, of class Math_PowersOfTen.
+     */
+    @Test
+    public void testBigInteger() {
+        System.out.println("bigInteger");
+        // Test 1
+        for (int n = 0; n < 100; n++) {
+            assertEquals(BigInteger.TEN.pow(n), Math_PowersOfTen.bigInteger(n));
+        }
+        // Test 2
+        int n = Math_PowersOfTen.MAX_CACHED;
+        assertEquals(BigInteger.TEN.pow(n), Math_PowersOfTen.bigInteger(n));
+        // Test 3
+        n = 3 * Math_PowersOfTen.MAX_CACHED + 1;
+        assertEquals(BigInteger.TEN.pow(n), Math_PowersOfTen.bigInteger(n));
+        // Test 4
+        int[] ns = new int[]{5 * Math_PowersOfTen.MAX_CACHED,
+            (1 << 17) + 123, (Math_PowersOfTen.MAX_CACHED
+            << (Math_PowersOfTen.MAX_SQUARE_INDEX + 1)) + 1};
+        for (int n1 : ns) {
+            assertEquals(BigInteger.TEN.pow(n1), Math_PowersOfTen.bigInteger(
+                    n1));
+        }
+        // Test 5
+        IntStream.range(0, 3000).parallel().forEach(i -> assertEquals(
+                BigInteger.TEN.pow(i), Math_PowersOfTen.bigInteger(i)));
+        // Test 6
+        assertThrows(ArithmeticException.class,
+                () -> Math_PowersOfTen.bigInteger(-1));
+    }
+
+    /**
+     * Test of bigDecimal method, of class Math_PowersOfTen.
+     */
+    @Test
+    public void testBigDecimal() {
+        System.out.println("bigDecimal");
+        int[] ns = new int[]{0, 1, -1, 37, -37, Math_PowersOfTen.MAX_CACHED,
+            -Math_PowersOfTen.MAX_CACHED, 5000, -5000};
+        for (int n : ns) {
+            BigDecimal expResult = BigDecimal.ONE.scaleByPowerOfTen(n);
+            BigDecimal result = Math_PowersOfTen.bigDecimal(n);
+            assertEquals(expResult, result);
+            assertEquals(-n, result.scale());
+        }
+    }
+
+    /**
+     * Test of getHits, getMisses, getHitRate and resetMetrics methods, of
+     * class Math_PowersOfTen.
+     */
+    @Test
+    public void testMetrics() {
+        System.out.println("metrics");
+        Math_PowersOfTen.bigInteger(10);
+        Math_PowersOfTen.resetMetrics();
+        assertEquals(0L, Math_PowersOfTen.getHits());
+        assertEquals(0L, Math_PowersOfTen.getMisses());
+        assertEquals(0d, Math_PowersOfTen.getHitRate());
+        // Test 1
+        Math_PowersOfTen.bigInteger(10);
+        Math_PowersOfTen.bigDecimal(-10);
+        Math_PowersOfTen.bigInteger(Math_PowersOfTen.MAX_CACHED + 1);
+        assertEquals(2L, Math_PowersOfTen.getHits());
+        assertEquals(1L, Math_PowersOfTen.getMisses());
+        assertEquals(2d / 3d, Math_PowersOfTen.getHitRate());
+        // Test 2
+        assertTrue(Math_PowersOfTen.getBigIntegerTableSize() > 10);
+        assertTrue(Math_PowersOfTen.getBigIntegerTableSize()
+                <= Math_PowersOfTen.MAX_CACHED + 1);
+        assertTrue(Math_PowersOfTen.getSquareTableSize() >= 1);
+        assertTrue(Math_PowersOfTen.getSquareTableSize()
+                <= Math_PowersOfTen.MAX_SQUARE_INDEX + 1);
+    }
+
+    /**
+     * Test of log10 method, of class Math_PowersOfTen.
+     */
+    @Test
+    public void testLog10() {
+        System.out.println("log10");
+        // Test 1
+        assertEquals(0, Math_PowersOfTen.log10(0L));
+        assertEquals(18, Math_PowersOfTen.log10(Long.MAX_VALUE));
+        assertEquals(18, Math_PowersOfTen.log10(Long.MIN_VALUE));
+        // Test 2
+        for (int n = 0; n <= Math_PowersOfTen.MAX_LONG_EXPONENT; n++) {
+            long p = Math_PowersOfTen.longValue(n);
+            assertEquals(n, Math_PowersOfTen.log10(p));
+            assertEquals(n, Math_PowersOfTen.log10(-p));
+            if (n > 0) {
+                assertEquals(n - 1, Math_PowersOfTen.log10(p - 1));
+            }
+        }
+        // Test 3
+        for (int i = 0; i < 63; i++) {
+            long x = 1L << i;
+            assertEquals(Long.toString(x).length() - 1,
+                    Math_PowersOfTen.log10(x));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_Root;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_RootTest {
+
+    private static final RoundingMode[] RMS = new RoundingMode[]{
+        RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING,
+        RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_EVEN};
+
+    public Math_RootTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of root method, of class Math_Root.
+     */
+    @Test
+    public void testRoot() {
+        System.out.println("root");
+        // Test 1
+        BigDecimal x = BigDecimal.ZERO;
+        int oom = -20;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigDecimal result = Math_Root.root(x, 3, oom, rm);
+        assertTrue(BigDecimal.ZERO.compareTo(result) == 0);
+        // Test 2
+        Random random = new Random(21);
+        for (int i = 0; i < 200; i++) {
+            x = new BigDecimal(random.nextDouble()).movePointRight(
+                    random.nextInt(40) - 20).round(new MathContext(
+                    1 + random.nextInt(40)));
+            int n = 2 + random.nextInt(random.nextBoolean() ? 10 : 1000);
+            oom = -random.nextInt(60);
+            rm = RMS[random.nextInt(RMS.length)];
+            MathContext mc = new MathContext(100 - oom);
+            BigDecimal expResult = BigDecimalMath.root(x, BigDecimal.valueOf(
+                    n), mc).setScale(-oom, rm);
+            result = Math_Root.root(x, n, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + n + " "
+                    + oom + " " + rm);
+        }
+        // Test 3
+        x = new BigDecimal("2");
+        oom = -1000;
+        rm = RoundingMode.HALF_EVEN;
+        MathContext mc = new MathContext(1100);
+        BigDecimal expResult = BigDecimalMath.root(x, BigDecimal.valueOf(7),
+                mc).setScale(-oom, rm);
+        result = Math_Root.root(x, 7, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 4
+        assertThrows(IllegalArgumentException.class,
+                () -> Math_Root.root(BigDecimal.ONE.negate(), 3, -10,
+                        RoundingMode.HALF_UP));
+    }
+
+    /**
+     * Test of rootExact method, of class Math_Root.
+     */
+    @Test
+    public void testRootExact() {
+        System.out.println("rootExact");
+        // Test 1
+        BigDecimal x = new BigDecimal("0.000000125");
+        BigDecimal expResult = new BigDecimal("0.005");
+        BigDecimal result = Math_Root.rootExact(x, 3);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        x = new BigDecimal("1E+12");
+        expResult = new BigDecimal("1E+3");
+        result = Math_Root.rootExact(x, 4);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 3
+        assertNull(Math_Root.rootExact(new BigDecimal("0.0125"), 3));
+        assertNull(Math_Root.rootExact(new BigDecimal("2"), 2));
+        // Test 4
+        Random random = new Random(22);
+        for (int i = 0; i < 100; i++) {
+            BigDecimal r = new BigDecimal(new BigInteger(1 + random.nextInt(
+                    200), random).add(BigInteger.ONE), random.nextInt(40)
+                    - 20);
+            int n = 2 + random.nextInt(20);
+            x = r.pow(n);
+            result = Math_Root.rootExact(x, n);
+            assertTrue(r.compareTo(result) == 0, r + " " + n);
+            assertNull(Math_Root.rootExact(x.add(BigDecimal.ONE.movePointLeft(
+                    x.scale())), n));
+        }
+    }
+
+    /**
+     * Test of sqrt method, of class Math_Root.
+     */
+    @Test
+    public void testSqrt() {
+        System.out.println("sqrt");
+        Random random = new Random(23);
+        for (int i = 0; i < 200; i++) {
+            BigDecimal x = new BigDecimal(random.nextDouble()).movePointRight(
+                    random.nextInt(40) - 20).round(new MathContext(
+                    1 + random.nextInt(40)));
+            int oom = -random.nextInt(60);
+            RoundingMode rm = RMS[random.nextInt(RMS.length)];
+            MathContext mc = new MathContext(100 - oom);
+            BigDecimal expResult = x.sqrt(mc).setScale(-oom, rm);
+            BigDecimal result = Math_Root.sqrt(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.arithmetic.test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.arithmetic.Math_Trig;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_TrigTest {
+
+    private static final RoundingMode[] RMS = new RoundingMode[]{
+        RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING,
+        RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_EVEN};
+
+    public Math_TrigTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * @param random For generating the value.
+     * @return A random value with a random number of digits and magnitude.
+     */
+    private static BigDecimal getX(Random random) {
+        return new BigDecimal(random.nextDouble()).movePointRight(
+                random.nextInt(30) - 10).round(new MathContext(
+                        1 + random.nextInt(40)));
+    }
+
+    /**
+     * Test of sin method, of class Math_Trig.
+     */
+    @Test
+    public void testSin() {
+        System.out.println("sin");
+        // Test 1
+        BigDecimal x = BigDecimal.ZERO;
+        int oom = -20;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigDecimal expResult = BigDecimal.ZERO;
+        BigDecimal result = Math_Trig.sin(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        Random random = new Random(16);
+        for (int i = 0; i < 200; i++) {
+            x = getX(random);
+            oom = -random.nextInt(60);
+            rm = RMS[random.nextInt(RMS.length)];
+            MathContext mc = new MathContext(100 - oom);
+            expResult = BigDecimalMath.sin(x, mc).setScale(-oom, rm);
+            result = Math_Trig.sin(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+        }
+        // Test 3
+        x = new BigDecimal("1E+100");
+        oom = -50;
+        rm = RoundingMode.DOWN;
+        expResult = BigDecimalMath.sin(x, new MathContext(200))
+                .setScale(-oom, rm);
+        result = Math_Trig.sin(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+    }
+
+    /**
+     * Test of cos method, of class Math_Trig.
+     */
+    @Test
+    public void testCos() {
+        System.out.println("cos");
+        // Test 1
+        BigDecimal x = BigDecimal.ZERO;
+        int oom = -20;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        BigDecimal expResult = BigDecimal.ONE;
+        BigDecimal result = Math_Trig.cos(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 2
+        Random random = new Random(17);
+        for (int i = 0; i < 200; i++) {
+            x = getX(random);
+            oom = -random.nextInt(60);
+            rm = RMS[random.nextInt(RMS.length)];
+            MathContext mc = new MathContext(100 - oom);
+            expResult = BigDecimalMath.cos(x, mc).setScale(-oom, rm);
+            result = Math_Trig.cos(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+        }
+        // Test 3: Close to Pi/2.
+        x = BigDecimalMath.pi(new MathContext(40)).divide(
+                BigDecimal.valueOf(2));
+        oom = -60;
+        rm = RoundingMode.HALF_UP;
+        expResult = BigDecimalMath.cos(x, new MathContext(100))
+                .setScale(-oom, rm);
+        result = Math_Trig.cos(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+    }
+
+    /**
+     * Test of tan method, of class Math_Trig.
+     */
+    @Test
+    public void testTan() {
+        System.out.println("tan");
+        Random random = new Random(18);
+        for (int i = 0; i < 200; i++) {
+            BigDecimal x = getX(random);
+            int oom = -random.nextInt(60);
+            RoundingMode rm = RMS[random.nextInt(RMS.length)];
+            MathContext mc = new MathContext(100 - oom);
+            BigDecimal expResult = BigDecimalMath.tan(x, mc).setScale(-oom,
+                    rm);
+            BigDecimal result = Math_Trig.tan(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+        }
+    }
+
+    /**
+     * Test of atan method, of class Math_Trig.
+     */
+    @Test
+    public void testAtan() {
+        System.out.println("atan");
+        Random random = new Random(19);
+        for (int i = 0; i < 200; i++) {
+            BigDecimal x = getX(random);
+            if (random.nextBoolean()) {
+                x = x.negate();
+            }
+            int oom = -random.nextInt(60);
+            RoundingMode rm = RMS[random.nextInt(RMS.length)];
+            MathContext mc = new MathContext(100 - oom);
+            BigDecimal expResult = BigDecimalMath.atan(x, mc).setScale(-oom,
+                    rm);
+            BigDecimal result = Math_Trig.atan(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+        }
+    }
+
+    /**
+     * Test of asin and acos methods, of class Math_Trig.
+     */
+    @Test
+    public void testAsinAcos() {
+        System.out.println("asin acos");
+        // Test 1
+        int oom = -30;
+        RoundingMode rm = RoundingMode.HALF_UP;
+        MathContext mc = new MathContext(100);
+        BigDecimal expResult = BigDecimalMath.pi(mc).divide(
+                BigDecimal.valueOf(2)).setScale(-oom, rm);
+        BigDecimal result = Math_Trig.asin(BigDecimal.ONE, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        result = Math_Trig.acos(BigDecimal.ZERO, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        result = Math_Trig.acos(BigDecimal.ONE, oom, rm);
+        assertTrue(BigDecimal.ZERO.compareTo(result) == 0);
+        // Test 2
+        Random random = new Random(20);
+        for (int i = 0; i < 200; i++) {
+            BigDecimal x = new BigDecimal(random.nextDouble()).round(
+                    new MathContext(1 + random.nextInt(40)));
+            if (random.nextBoolean()) {
+                x = x.negate();
+            }
+            oom = -random.nextInt(60);
+            rm = RMS[random.nextInt(RMS.length)];
+            mc = new MathContext(100 - oom);
+            expResult = BigDecimalMath.asin(x, mc).setScale(-oom, rm);
+            result = Math_Trig.asin(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+            expResult = BigDecimalMath.acos(x, mc).setScale(-oom, rm);
+            result = Math_Trig.acos(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0, x + " " + oom + " "
+                    + rm);
+        }
+        // Test 3
+        assertThrows(IllegalArgumentException.class,
+                () -> Math_Trig.asin(new BigDecimal("1.1"), -10,
+                        RoundingMode.HALF_UP));
+    }
+}
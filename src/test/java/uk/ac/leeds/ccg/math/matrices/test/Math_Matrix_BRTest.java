@@ -16,6 +16,7 @@
 package uk.ac.leeds.ccg.math.matrices.test;
 
 import ch.obermuhlner.math.big.BigRational;
+import java.math.BigInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -309,6 +310,44 @@ public class Math_Matrix_BRTest {
         expResult = BigRational.valueOf(2480);
         result = a.getDeterminant();
         assertTrue(result.compareTo(expResult) == 0);
+        // Test Hilbert matrices where the determinant is c(n)^4/c(2n) with
+        // c(n) the product of the factorials 1! to (n-1)!
+        for (int n : new int[]{4, 12, 40}) {
+            m = new BigRational[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    m[i][j] = BigRational.valueOf(1, i + j + 1);
+                }
+            }
+            a = new Math_Matrix_BR(m);
+            expResult = BigRational.valueOf(getC(n).pow(4), getC(2 * n));
+            result = a.getDeterminant();
+            assertTrue(result.compareTo(expResult) == 0);
+        }
+        // Test singular
+        m = new BigRational[4][4];
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) {
+                m[i][j] = BigRational.valueOf(i * 4 + j, 3);
+            }
+        }
+        a = new Math_Matrix_BR(m);
+        assertTrue(a.getDeterminant().compareTo(BigRational.ZERO) == 0);
+        assertTrue(a.getRank() == 2);
+    }
+
+    /**
+     * @param n The number of factorials.
+     * @return The product of the factorials 1! to (n-1)!
+     */
+    private static BigInteger getC(int n) {
+        BigInteger r = BigInteger.ONE;
+        BigInteger f = BigInteger.ONE;
+        for (int i = 1; i < n; i++) {
+            f = f.multiply(BigInteger.valueOf(i));
+            r = r.multiply(f);
+        }
+        return r;
     }
 
     /**
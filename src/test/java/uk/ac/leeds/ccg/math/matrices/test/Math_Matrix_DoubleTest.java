@@ -0,0 +1,239 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.matrices.test;
+
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.matrices.Math_Matrix_Double;
+import uk.ac.leeds.ccg.math.matrices.Math_Matrix_Double_Cholesky;
+import uk.ac.leeds.ccg.math.matrices.Math_Matrix_Double_LU;
+
+/**
+ *
+ * @author Andy Turner
+ */
+public class Math_Matrix_DoubleTest {
+
+    public Math_Matrix_DoubleTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * @param nr The number of rows.
+     * @param nc The number of columns.
+     * @param random For generating values.
+     * @return A matrix of random values.
+     */
+    private static double[][] getRandom(int nr, int nc, Random random) {
+        double[][] m = new double[nr][nc];
+        for (int r = 0; r < nr; r++) {
+            for (int c = 0; c < nc; c++) {
+                m[r][c] = random.nextDouble() * 2d - 1d;
+            }
+        }
+        return m;
+    }
+
+    /**
+     * Test of multiply method, of class Math_Matrix_Double.
+     */
+    @Test
+    public void testMultiply() {
+        System.out.println("multiply");
+        // Test 1
+        double[][] a = {{1d, 2d}, {3d, 4d}, {5d, 6d}};
+        double[][] b = {{1d, 0d, -1d}, {2d, 1d, 0d}};
+        double[][] expResult = {{5d, 2d, -1d}, {11d, 4d, -3d},
+            {17d, 6d, -5d}};
+        Math_Matrix_Double result = new Math_Matrix_Double(a)
+                .multiply(new Math_Matrix_Double(b));
+        assertEquals(new Math_Matrix_Double(expResult), result);
+        assertArrayEquals(expResult[1], result.getRows()[1]);
+        assertArrayEquals(new double[]{2d, 4d, 6d}, result.getCols()[1]);
+        // Test 2: Incompatible dimensions.
+        assertNull(new Math_Matrix_Double(a).multiply(
+                new Math_Matrix_Double(a)));
+        // Test 3: Large enough to be tiled and done in parallel, compared with
+        // a naive triple loop.
+        Random random = new Random(0);
+        int nr = 150;
+        int nk = 300;
+        int nc = 530;
+        a = getRandom(nr, nk, random);
+        b = getRandom(nk, nc, random);
+        result = new Math_Matrix_Double(a).multiply(new Math_Matrix_Double(b));
+        double[][] rows = result.getRows();
+        double[][] cols = result.getCols();
+        for (int r = 0; r < nr; r++) {
+            for (int c = 0; c < nc; c++) {
+                double v = 0d;
+                for (int i = 0; i < nk; i++) {
+                    v += a[r][i] * b[i][c];
+                }
+                assertEquals(v, rows[r][c]);
+                assertEquals(v, cols[c][r]);
+            }
+        }
+    }
+
+    /**
+     * Test of getTranspose and getCols methods, of class Math_Matrix_Double.
+     */
+    @Test
+    public void testGetTranspose() {
+        System.out.println("getTranspose");
+        // Test 1
+        double[][] a = {{1d, 2d, 3d}, {4d, 5d, 6d}};
+        Math_Matrix_Double instance = new Math_Matrix_Double(a);
+        double[][] expResult = {{1d, 4d}, {2d, 5d}, {3d, 6d}};
+        assertArrayEquals(expResult, instance.getCols());
+        Math_Matrix_Double result = instance.getTranspose();
+        assertEquals(new Math_Matrix_Double(expResult), result);
+        assertArrayEquals(expResult, result.getRows());
+        assertArrayEquals(a, result.getCols());
+        assertSame(instance, result.getTranspose());
+        // Test 2: Results of operations.
+        result = instance.add(instance).multiply(0.5d);
+        assertEquals(instance, result);
+        assertArrayEquals(expResult, result.getCols());
+        assertEquals(new Math_Matrix_Double(expResult),
+                result.getTranspose());
+        // Test 3
+        Math_Matrix_Double identity = Math_Matrix_Double.getIdentityMatrix(3);
+        assertTrue(identity.isSymmetric());
+        assertEquals(identity, identity.getTranspose());
+        assertFalse(instance.isSymmetric());
+    }
+
+    /**
+     * Test of getDeterminant method, of class Math_Matrix_Double.
+     */
+    @Test
+    public void testGetDeterminant() {
+        System.out.println("getDeterminant");
+        // Test 1
+        double[][] a = {{2d, -1d, 0d, 3d}, {1d, 4d, -2d, 0d},
+            {0d, 5d, 1d, -1d}, {3d, 0d, 2d, 1d}};
+        Math_Matrix_Double instance = new Math_Matrix_Double(a);
+        assertEquals(-103d, instance.getDeterminant(), 1e-12);
+        // Test 2: Row swaps change the sign.
+        double[][] b = {a[1], a[0], a[2], a[3]};
+        assertEquals(103d, new Math_Matrix_Double(b).getDeterminant(), 1e-12);
+        // Test 3: Singular.
+        double[][] c = {a[0], a[1], a[0], a[3]};
+        assertEquals(0d, new Math_Matrix_Double(c).getDeterminant());
+        assertTrue(new Math_Matrix_Double(c).getLU().isSingular());
+        // Test 4: Identity.
+        assertEquals(1d, Math_Matrix_Double.getIdentityMatrix(7)
+                .getDeterminant());
+        // Test 5: Not square.
+        assertThrows(RuntimeException.class, () -> new Math_Matrix_Double(
+                new double[][]{{1d, 2d}}).getDeterminant());
+    }
+
+    /**
+     * Test of getLU and getCholesky methods, of class Math_Matrix_Double.
+     */
+    @Test
+    public void testGetLU() {
+        System.out.println("getLU");
+        // Test 1: PA = LU.
+        Random random = new Random(1);
+        int n = 20;
+        double[][] a = getRandom(n, n, random);
+        Math_Matrix_Double instance = new Math_Matrix_Double(a);
+        Math_Matrix_Double_LU lu = instance.getLU();
+        assertSame(lu, instance.getLU());
+        double[][] plu = lu.getL().multiply(lu.getU()).getRows();
+        int[] pivot = lu.getPivot();
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(a[pivot[i]], plu[i], 1e-12);
+        }
+        // Test 2: A = LL^T.
+        assertFalse(instance.getCholesky().isPositiveDefinite());
+        Math_Matrix_Double spd = instance.multiply(instance.getTranspose())
+                .add(Math_Matrix_Double.getIdentityMatrix(n));
+        Math_Matrix_Double_Cholesky c = spd.getCholesky();
+        assertTrue(c.isPositiveDefinite());
+        Math_Matrix_Double l = c.getL();
+        double[][] llt = l.multiply(l.getTranspose()).getRows();
+        double[][] s = spd.getRows();
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(s[i], llt[i], 1e-10);
+        }
+        assertEquals(spd.getLU().getDeterminant(), c.getDeterminant(),
+                Math.abs(c.getDeterminant()) * 1e-10);
+        // Test 3: Symmetric but not positive definite.
+        assertFalse(new Math_Matrix_Double(new double[][]{{1d, 2d},
+            {2d, 1d}}).getCholesky().isPositiveDefinite());
+    }
+
+    /**
+     * Test of solve and getInverse methods, of class Math_Matrix_Double.
+     */
+    @Test
+    public void testSolve() {
+        System.out.println("solve");
+        // Test 1
+        double[][] a = {{2d, 1d, -1d}, {-3d, -1d, 2d}, {-2d, 1d, 2d}};
+        Math_Matrix_Double instance = new Math_Matrix_Double(a);
+        assertArrayEquals(new double[]{2d, 3d, -1d},
+                instance.solve(new double[]{8d, -11d, -3d}), 1e-12);
+        // Test 2: Inverses of general and symmetric positive definite
+        // matrices.
+        Random random = new Random(2);
+        int n = 30;
+        instance = new Math_Matrix_Double(getRandom(n, n, random));
+        Math_Matrix_Double spd = instance.multiply(instance.getTranspose())
+                .add(Math_Matrix_Double.getIdentityMatrix(n));
+        for (Math_Matrix_Double m : new Math_Matrix_Double[]{instance, spd}) {
+            double[][] result = m.multiply(m.getInverse()).getRows();
+            double[][] expResult = Math_Matrix_Double.getIdentityMatrix(n)
+                    .getRows();
+            for (int i = 0; i < n; i++) {
+                assertArrayEquals(expResult[i], result[i], 1e-9);
+            }
+        }
+        // Test 3: Singular.
+        Math_Matrix_Double singular = new Math_Matrix_Double(
+                new double[][]{{1d, 2d}, {2d, 4d}});
+        assertThrows(ArithmeticException.class,
+                () -> singular.solve(new double[]{1d, 1d}));
+        assertThrows(ArithmeticException.class, () -> singular.getInverse());
+        assertThrows(IllegalArgumentException.class,
+                () -> spd.solve(new double[]{1d}));
+    }
+}
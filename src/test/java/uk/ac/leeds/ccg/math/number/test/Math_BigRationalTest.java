@@ -16,6 +16,7 @@
 package uk.ac.leeds.ccg.math.number.test;
 
 import uk.ac.leeds.ccg.math.arithmetic.Math_BigRational;
+import ch.obermuhlner.math.big.BigDecimalMath;
 import ch.obermuhlner.math.big.BigRational;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -240,6 +241,21 @@ public class Math_BigRationalTest {
         expResult = Math_BigRational.round(BigRational.valueOf(Math.cos(-1d/3d)), oom, rm);
         result = Math_BigRational.cos(x, bi, oom, rm);
         assertTrue(expResult.compareTo(result) == 0);
+        // Test 7
+        oom = -100;
+        MathContext mc = new MathContext(200);
+        x = BigRational.valueOf(22, 7);
+        expResult = BigRational.valueOf(BigDecimalMath.cos(BigDecimal.valueOf(22)
+                .divide(BigDecimal.valueOf(7), mc), mc).setScale(-oom, rm));
+        result = Math_BigRational.cos(x, bi, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 8
+        BigDecimal xbd = new BigDecimal("-987654321.0123456789");
+        x = BigRational.valueOf(xbd);
+        expResult = BigRational.valueOf(BigDecimalMath.cos(xbd, mc)
+                .setScale(-oom, rm));
+        result = Math_BigRational.cos(x, bi, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
 
     /**
@@ -285,6 +301,21 @@ public class Math_BigRationalTest {
         expResult = Math_BigRational.round(BigRational.valueOf(Math.sin(1d/3d)), oom, rm);
         result = Math_BigRational.sin(x, bi, oom, rm);
         assertTrue(expResult.compareTo(result) == 0);
+        // Test 7
+        oom = -100;
+        MathContext mc = new MathContext(200);
+        x = BigRational.valueOf(22, 7);
+        expResult = BigRational.valueOf(BigDecimalMath.sin(BigDecimal.valueOf(22)
+                .divide(BigDecimal.valueOf(7), mc), mc).setScale(-oom, rm));
+        result = Math_BigRational.sin(x, bi, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 8
+        BigDecimal xbd = new BigDecimal("-987654321.0123456789");
+        x = BigRational.valueOf(xbd);
+        expResult = BigRational.valueOf(BigDecimalMath.sin(xbd, mc)
+                .setScale(-oom, rm));
+        result = Math_BigRational.sin(x, bi, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
     
     /**
@@ -330,6 +361,21 @@ public class Math_BigRationalTest {
         expResult = Math_BigRational.round(BigRational.valueOf(Math.tan(1d/3d)), oom, rm);
         result = Math_BigRational.tan(x, bi, oom, rm);
         assertTrue(expResult.compareTo(result) == 0);
+        // Test 7
+        oom = -100;
+        MathContext mc = new MathContext(200);
+        x = BigRational.valueOf(22, 7);
+        expResult = BigRational.valueOf(BigDecimalMath.tan(BigDecimal.valueOf(22)
+                .divide(BigDecimal.valueOf(7), mc), mc).setScale(-oom, rm));
+        result = Math_BigRational.tan(x, bi, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 8
+        BigDecimal xbd = new BigDecimal("-987654321.0123456789");
+        x = BigRational.valueOf(xbd);
+        expResult = BigRational.valueOf(BigDecimalMath.tan(xbd, mc)
+                .setScale(-oom, rm));
+        result = Math_BigRational.tan(x, bi, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
     }
     
     /**
@@ -417,6 +463,37 @@ public class Math_BigRationalTest {
         //result = Math_BigRational.atan(x, bi, oom, rm);
         //System.out.println(result.toString());
         assertTrue(expResult.compareTo(result) == 0);
+        // Test 6
+        oom = -100;
+        MathContext mc = new MathContext(200);
+        x = BigRational.valueOf(1, 3);
+        expResult = BigRational.valueOf(BigDecimalMath.atan(BigDecimal.ONE
+                .divide(BigDecimal.valueOf(3), mc), mc).setScale(-oom, rm));
+        result = Math_BigRational.atan(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 7
+        BigDecimal xbd = new BigDecimal("0.99999999999999999999");
+        x = BigRational.valueOf(xbd);
+        expResult = BigRational.valueOf(BigDecimalMath.atan(xbd, mc)
+                .setScale(-oom, rm));
+        result = Math_BigRational.atan(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 8
+        xbd = new BigDecimal("-123456789.123");
+        x = BigRational.valueOf(xbd);
+        expResult = BigRational.valueOf(BigDecimalMath.atan(xbd, mc)
+                .setScale(-oom, rm));
+        result = Math_BigRational.atan(x, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);        // Test 9
+        String[] xs = {"1.0000001", "1.5", "2.4", "-2.5", "2.5000001", "0.4"};
+        for (String xsi : xs) {
+            xbd = new BigDecimal(xsi);
+            x = BigRational.valueOf(xbd);
+            expResult = BigRational.valueOf(BigDecimalMath.atan(xbd, mc)
+                    .setScale(-oom, rm));
+            result = Math_BigRational.atan(x, oom, rm);
+            assertTrue(expResult.compareTo(result) == 0);
+        }
     }
     
     /**
@@ -465,5 +542,30 @@ public class Math_BigRationalTest {
         expResult = Math_BigRational.round(BigRational.valueOf(Math.atan2(-1d, -1d)), oom, rm);
         result = Math_BigRational.atan2(x, y, bd, oom, rm);
         assertTrue(expResult.compareTo(result) == 0);
+        // Test 6
+        x = BigRational.ONE;
+        y = BigRational.valueOf(2);
+        expResult = Math_BigRational.round(BigRational.valueOf(Math.atan2(2d, 1d)), oom, rm);
+        result = Math_BigRational.atan2(x, y, bd, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 7
+        x = BigRational.valueOf(-3);
+        y = BigRational.ZERO;
+        expResult = Math_BigRational.round(BigRational.valueOf(Math.atan2(0d, -3d)), oom, rm);
+        result = Math_BigRational.atan2(x, y, bd, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 8
+        oom = -100;
+        MathContext mc = new MathContext(200);
+        x = BigRational.valueOf(-2, 7);
+        y = BigRational.valueOf(-5, 3);
+        expResult = BigRational.valueOf(BigDecimalMath.atan2(
+                BigDecimal.valueOf(-35), BigDecimal.valueOf(-6), mc)
+                .setScale(-oom, rm));
+        result = Math_BigRational.atan2(x, y, bd, oom, rm);
+        assertTrue(expResult.compareTo(result) == 0);
+        // Test 9
+        assertThrows(RuntimeException.class, () -> Math_BigRational.atan2(
+                BigRational.ZERO, BigRational.ZERO, bd, -4, rm));
     }
 }
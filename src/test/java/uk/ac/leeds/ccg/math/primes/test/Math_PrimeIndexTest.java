@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.primes.test;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeIndex;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeSieve;
+
+/**
+ * Tests for {@link Math_PrimeIndex}.
+ *
+ * @author Andy Turner
+ */
+public class Math_PrimeIndexTest {
+
+    public Math_PrimeIndexTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of pi method, of class Math_PrimeIndex.
+     */
+    @Test
+    public void testPi() {
+        System.out.println("pi");
+        Math_PrimeIndex instance = new Math_PrimeIndex(10000000L,
+                new Math_PrimeSieve());
+        assertEquals(664579L, instance.size());
+        assertEquals(0L, instance.pi(0));
+        assertEquals(0L, instance.pi(1));
+        assertEquals(1L, instance.pi(2));
+        assertEquals(2L, instance.pi(3));
+        assertEquals(2L, instance.pi(4));
+        assertEquals(4L, instance.pi(10));
+        assertEquals(25L, instance.pi(100));
+        assertEquals(168L, instance.pi(1000));
+        assertEquals(1229L, instance.pi(10000));
+        assertEquals(9592L, instance.pi(100000));
+        assertEquals(78498L, instance.pi(1000000));
+        assertEquals(664579L, instance.pi(10000000));
+        assertThrows(IllegalArgumentException.class,
+                () -> instance.pi(10000001L));
+        // Small limits
+        assertEquals(0L, new Math_PrimeIndex(1L, new Math_PrimeSieve()).size());
+        assertEquals(1L, new Math_PrimeIndex(2L, new Math_PrimeSieve()).pi(2));
+    }
+
+    /**
+     * Test of isPrime, indexOf and nthPrime methods, of class
+     * Math_PrimeIndex.
+     */
+    @Test
+    public void testIndexOfAndNthPrime() {
+        System.out.println("isPrime, indexOf and nthPrime");
+        Math_PrimeSieve sieve = new Math_PrimeSieve();
+        long n = 2 * Math_PrimeSieve.SEGMENT_SPAN + 4321;
+        long[] primes = sieve.primesInRange(0, n);
+        Math_PrimeIndex instance = new Math_PrimeIndex(n, sieve);
+        assertEquals(primes.length, instance.size());
+        for (int i = 0; i < primes.length; i++) {
+            assertTrue(instance.isPrime(primes[i]));
+            assertEquals(i, instance.indexOf(primes[i]));
+            assertEquals(primes[i], instance.nthPrime(i));
+        }
+        assertEquals(-1L, instance.indexOf(1));
+        assertEquals(-1L, instance.indexOf(9));
+        assertEquals(-1L, instance.indexOf(n - 1));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> instance.nthPrime(primes.length));
+    }
+}
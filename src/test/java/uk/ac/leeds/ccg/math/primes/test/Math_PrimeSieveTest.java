@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.primes.test;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeSieve;
+
+/**
+ * Tests for {@link Math_PrimeSieve}.
+ *
+ * @author Andy Turner
+ */
+public class Math_PrimeSieveTest {
+
+    public Math_PrimeSieveTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of primesInRange method, of class Math_PrimeSieve.
+     */
+    @Test
+    public void testPrimesInRange() {
+        System.out.println("primesInRange");
+        Math_PrimeSieve instance = new Math_PrimeSieve();
+        // Test 1
+        long[] expResult = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29};
+        long[] result = instance.primesInRange(0, 30);
+        assertArrayEquals(expResult, result);
+        // Test 2
+        expResult = new long[]{11, 13, 17, 19, 23, 29};
+        result = instance.primesInRange(10, 29);
+        assertArrayEquals(expResult, result);
+        // Test 3
+        result = instance.primesInRange(24, 28);
+        assertEquals(0, result.length);
+        // Test 4: Across several segments compared with trial division.
+        long lo = 1000000L;
+        long hi = lo + 3 * Math_PrimeSieve.SEGMENT_SPAN + 12345;
+        result = instance.primesInRange(lo, hi);
+        int j = 0;
+        for (long x = lo; x <= hi; x++) {
+            if (isPrime(x)) {
+                assertEquals(x, result[j]);
+                j++;
+            }
+        }
+        assertEquals(j, result.length);
+        // Test 5: Beyond Integer.MAX_VALUE.
+        lo = 4294967296L - 1000L;
+        hi = 4294967296L + 1000L;
+        result = instance.primesInRange(lo, hi);
+        j = 0;
+        for (long x = lo; x <= hi; x++) {
+            if (BigInteger.valueOf(x).isProbablePrime(50)) {
+                assertEquals(x, result[j]);
+                j++;
+            }
+        }
+        assertEquals(j, result.length);
+    }
+
+    /**
+     * Test of primes method, of class Math_PrimeSieve.
+     */
+    @Test
+    public void testPrimes() {
+        System.out.println("primes");
+        Math_PrimeSieve instance = new Math_PrimeSieve();
+        long hi = 2 * Math_PrimeSieve.SEGMENT_SPAN + 99;
+        long[] expResult = instance.primesInRange(2, hi);
+        long[] result = instance.primes(0, hi).toArray();
+        assertArrayEquals(expResult, result);
+        result = instance.primes(0, hi).parallel().toArray();
+        assertArrayEquals(expResult, result);
+    }
+
+    /**
+     * Test of countPrimes method, of class Math_PrimeSieve.
+     */
+    @Test
+    public void testCountPrimes() {
+        System.out.println("countPrimes");
+        Math_PrimeSieve instance = new Math_PrimeSieve();
+        assertEquals(0L, instance.countPrimes(0, 1));
+        assertEquals(1L, instance.countPrimes(0, 2));
+        assertEquals(4L, instance.countPrimes(0, 10));
+        assertEquals(25L, instance.countPrimes(0, 100));
+        assertEquals(168L, instance.countPrimes(0, 1000));
+        assertEquals(664579L, instance.countPrimes(0, 10000000));
+        assertEquals(664579L - 78498L, instance.countPrimes(1000001, 10000000));
+    }
+
+    /**
+     * Test of getOddBitmap method, of class Math_PrimeSieve.
+     */
+    @Test
+    public void testGetOddBitmap() {
+        System.out.println("getOddBitmap");
+        Math_PrimeSieve instance = new Math_PrimeSieve();
+        long n = 3 * Math_PrimeSieve.SEGMENT_SPAN + 777;
+        long[] result = instance.getOddBitmap(n);
+        assertEquals(Math_PrimeSieve.getOddBitmapLength(n), result.length);
+        for (long i = 0; i < 64L * result.length; i++) {
+            long x = 2 * i + 1;
+            boolean set = (result[(int) (i >>> 6)] & (1L << i)) != 0;
+            assertEquals(x <= n && isPrime(x), set);
+        }
+    }
+
+    private static boolean isPrime(long x) {
+        if (x < 2) {
+            return false;
+        }
+        for (long d = 2; d * d <= x; d++) {
+            if (x % d == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
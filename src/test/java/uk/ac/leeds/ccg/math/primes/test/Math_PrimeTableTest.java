@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Centre for Computational Geography, University of Leeds.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.leeds.ccg.math.primes.test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeIndex;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeSieve;
+import uk.ac.leeds.ccg.math.primes.Math_PrimeTable;
+
+/**
+ * Tests for {@link Math_PrimeTable}.
+ *
+ * @author Andy Turner
+ */
+public class Math_PrimeTableTest {
+
+    @TempDir
+    Path dir;
+
+    public Math_PrimeTableTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    public void setUp() {
+    }
+
+    @AfterEach
+    public void tearDown() {
+    }
+
+    /**
+     * Test of write method, of class Math_PrimeTable.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testWrite() throws IOException {
+        System.out.println("write");
+        Path p = dir.resolve("primes.dat");
+        long result = Math_PrimeTable.write(p, 1000000L, new Math_PrimeSieve());
+        assertEquals(78498L, result);
+        assertTrue(Files.exists(p));
+        try (Math_PrimeTable instance = new Math_PrimeTable(p)) {
+            assertEquals(78498L, instance.size());
+            assertEquals(1000000L, instance.getLimit());
+        }
+        // Not a prime table.
+        Path q = dir.resolve("other.dat");
+        Files.writeString(q, "Not a prime table.");
+        assertThrows(IOException.class, () -> new Math_PrimeTable(q));
+    }
+
+    /**
+     * Test of nthPrime, isPrime, indexOf and getIndex methods, of class
+     * Math_PrimeTable.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testLookups() throws IOException {
+        System.out.println("nthPrime, isPrime and indexOf");
+        long n = 3 * Math_PrimeSieve.SEGMENT_SPAN + 1;
+        Path p = dir.resolve("primes.dat");
+        Math_PrimeSieve sieve = new Math_PrimeSieve();
+        Math_PrimeTable.write(p, n, sieve);
+        long[] expResult = sieve.primesInRange(0, n);
+        try (Math_PrimeTable instance = new Math_PrimeTable(p)) {
+            assertEquals(expResult.length, instance.size());
+            for (int i = 0; i < expResult.length; i++) {
+                assertEquals(expResult[i], instance.nthPrime(i));
+                assertEquals(i, instance.indexOf(expResult[i]));
+            }
+            int j = 0;
+            for (long x = 0; x <= n; x++) {
+                boolean prime = j < expResult.length && expResult[j] == x;
+                assertEquals(prime, instance.isPrime(x));
+                if (prime) {
+                    j++;
+                } else {
+                    assertEquals(-1L, instance.indexOf(x));
+                }
+            }
+            Math_PrimeIndex index = instance.getIndex();
+            assertEquals(instance.size(), index.size());
+            assertEquals(instance.size(), index.pi(n));
+            assertEquals(instance.nthPrime(1000), index.nthPrime(1000));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> instance.nthPrime(expResult.length));
+            assertThrows(IllegalArgumentException.class,
+                    () -> instance.isPrime(n + 1));
+        }
+    }
+}
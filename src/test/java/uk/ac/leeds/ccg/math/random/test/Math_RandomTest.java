@@ -18,6 +18,9 @@ package uk.ac.leeds.ccg.math.random.test;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Random;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -176,5 +179,166 @@ public class Math_RandomTest {
         result = rand.getRandom(new Math_BigInteger(), upperLimit);
         assertEquals(expResult, result);
     }
-    
+
+    /**
+     * Test of getRandom method, of class Math_Random.
+     */
+    @Test
+    public void testGetRandom_RandomGenerator_BigInteger() {
+        System.out.println("getRandom");
+        // Test 1
+        Math_Random rand = new Math_Random(1, 0L, 1L);
+        RandomGenerator g = rand.getRandomGenerator();
+        assertEquals(BigInteger.ZERO, Math_Random.getRandom(g,
+                BigInteger.ZERO));
+        // Test 2
+        RandomGenerator g1 = new Math_Random(1, 123L, 1L).getRandomGenerator();
+        RandomGenerator g2 = new Math_Random(1, 123L, 1L).getRandomGenerator();
+        BigInteger upperLimit = BigInteger.TEN.pow(40);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Math_Random.getRandom(g1, upperLimit),
+                    Math_Random.getRandom(g2, upperLimit));
+        }
+        // Test 3
+        upperLimit = BigInteger.valueOf(3).shiftLeft(100);
+        int[] counts = new int[3];
+        int n = 30000;
+        for (int i = 0; i < n; i++) {
+            BigInteger r = Math_Random.getRandom(g, upperLimit);
+            assertTrue(r.signum() >= 0 && r.compareTo(upperLimit) <= 0);
+            counts[Math.min(2, r.shiftRight(100).intValue())]++;
+        }
+        for (int c : counts) {
+            assertTrue(Math.abs(c - n / 3) < n / 30);
+        }
+        // Test 4
+        upperLimit = BigInteger.valueOf(6);
+        counts = new int[7];
+        for (int i = 0; i < n; i++) {
+            counts[Math_Random.getRandom(g, upperLimit).intValue()]++;
+        }
+        for (int c : counts) {
+            assertTrue(Math.abs(c - n / 7) < n / 35);
+        }
+        // Test 5
+        assertThrows(IllegalArgumentException.class,
+                () -> Math_Random.getRandom(g, BigInteger.ONE.negate()));
+    }
+
+    /**
+     * Test of getRandomBigDecimal method, of class Math_Random.
+     */
+    @Test
+    public void testGetRandomBigDecimal_RandomGenerator_int() {
+        System.out.println("getRandomBigDecimal");
+        RandomGenerator g = new Math_Random().getRandomGenerator();
+        int oom = -1000;
+        for (int i = 0; i < 100; i++) {
+            BigDecimal result = Math_Random.getRandomBigDecimal(g, oom);
+            assertTrue(result.signum() >= 0);
+            assertTrue(result.compareTo(BigDecimal.ONE) < 0);
+            assertTrue(result.scale() <= -oom);
+        }
+        assertTrue(BigDecimal.ZERO.compareTo(
+                Math_Random.getRandomBigDecimal(g, 0)) == 0);
+    }
+
+    /**
+     * Test of getRandom method, of class Math_Random.
+     */
+    @Test
+    public void testGetRandom_RandomGenerator_int_BigDecimal_BigDecimal() {
+        System.out.println("getRandom");
+        RandomGenerator g = new Math_Random().getRandomGenerator();
+        int oom = -3;
+        BigDecimal l = new BigDecimal("-1.5");
+        BigDecimal u = new BigDecimal("2.25");
+        for (int i = 0; i < 100; i++) {
+            BigDecimal result = Math_Random.getRandom(g, oom, l, u);
+            assertTrue(result.compareTo(l) >= 0);
+            assertTrue(result.compareTo(u) <= 0);
+            assertTrue(result.scale() <= -oom);
+        }
+    }
+
+    /**
+     * Test of split method, of class Math_Random.
+     */
+    @Test
+    public void testSplit() {
+        System.out.println("split");
+        // Test 1: The same seed gives the same sub-streams.
+        SplittableGenerator[] a = new Math_Random(1, 7L, 1L).split(4);
+        SplittableGenerator[] b = new Math_Random(1, 7L, 1L).split(4);
+        assertEquals(4, a.length);
+        long[] firsts = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            firsts[i] = a[i].nextLong();
+            assertEquals(firsts[i], b[i].nextLong());
+        }
+        // Test 2: The sub-streams differ.
+        assertEquals(a.length, Arrays.stream(firsts).distinct().count());
+    }
+
+    /**
+     * Test of nextDoubles methods, of class Math_Random.
+     */
+    @Test
+    public void testNextDoubles() {
+        System.out.println("nextDoubles");
+        // Test 1
+        double[] a = new double[10000];
+        Math_Random.nextDoubles(new Math_Random(1, 11L, 1L).getRandomGenerator(), a);
+        for (double d : a) {
+            assertTrue(d >= 0d && d < 1d);
+        }
+        // Test 2: Parallel filling is reproducible.
+        int n = 3 * Math_Random.CHUNK_SIZE + 17;
+        double[] b = new double[n];
+        double[] c = new double[n];
+        Math_Random.nextDoublesParallel(new Math_Random(1, 11L, 1L)
+                .getSplittableGenerator(), b);
+        Math_Random.nextDoublesParallel(new Math_Random(1, 11L, 1L)
+                .getSplittableGenerator(), c);
+        assertArrayEquals(b, c);
+        for (double d : b) {
+            assertTrue(d >= 0d && d < 1d);
+        }
+        // Test 3: Each chunk is from a generator split in order.
+        SplittableGenerator[] gs = new Math_Random(1, 11L, 1L).split(4);
+        assertEquals(gs[3].nextDouble(), b[3 * Math_Random.CHUNK_SIZE]);
+    }
+
+    /**
+     * Test of getRandomBigDecimals methods, of class Math_Random.
+     */
+    @Test
+    public void testGetRandomBigDecimals() {
+        System.out.println("getRandomBigDecimals");
+        int oom = -50;
+        // Test 1
+        BigDecimal[] a = Math_Random.getRandomBigDecimals(
+                new Math_Random(1, 13L, 1L).getRandomGenerator(), 100, oom);
+        RandomGenerator g = new Math_Random(1, 13L, 1L).getRandomGenerator();
+        for (BigDecimal x : a) {
+            assertEquals(Math_Random.getRandomBigDecimal(g, oom), x);
+        }
+        // Test 2: Parallel generation is reproducible.
+        int n = Math_Random.CHUNK_SIZE + 3;
+        BigDecimal[] b = Math_Random.getRandomBigDecimalsParallel(
+                new Math_Random(1, 13L, 1L).getSplittableGenerator(), n, oom);
+        BigDecimal[] c = Math_Random.getRandomBigDecimalsParallel(
+                new Math_Random(1, 13L, 1L).getSplittableGenerator(), n, oom);
+        assertArrayEquals(b, c);
+        for (BigDecimal x : b) {
+            assertTrue(x.signum() >= 0);
+            assertTrue(x.compareTo(BigDecimal.ONE) < 0);
+            assertTrue(x.scale() <= -oom);
+        }
+        // Test 3
+        a = Math_Random.getRandomBigDecimals(g, 3, 0);
+        for (BigDecimal x : a) {
+            assertTrue(BigDecimal.ZERO.compareTo(x) == 0);
+        }
+    }
 }